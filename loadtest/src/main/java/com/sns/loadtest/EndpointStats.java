@@ -0,0 +1,43 @@
+package com.sns.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * endpoint별 응답 시간(HdrHistogram, μs)과 실패 수. 여러 virtual user 스레드에서 동시에 기록합니다.
+ */
+class EndpointStats {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        stats.latency.recordValue(Math.max(1, latencyNanos / 1_000));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    // 대기열이 가득 차서 시작하지 못한 workflow
+    void drop() {
+        dropped.increment();
+    }
+
+    Map<String, Endpoint> endpoints() {
+        return endpoints;
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    static class Endpoint {
+        final Histogram latency = new ConcurrentHistogram(3);
+        final LongAdder errors = new LongAdder();
+    }
+}
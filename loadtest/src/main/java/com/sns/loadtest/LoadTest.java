@@ -0,0 +1,149 @@
+package com.sns.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sns.FinalLikelionApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하 테스트 - 정해진 비율(--rate)로 workflow를 시작하고 endpoint별 p50 / p99 / p99.9, 실패율을 출력합니다.
+ * --base-url이 없으면 같은 프로세스에서 H2 메모리 DB로 앱을 띄움 (rate limit은 끔).
+ * 결과는 빌드끼리 diff 할 수 있도록 CSV(--csv)로도 남깁니다.
+ *
+ * <pre>
+ * ./gradlew :loadtest:run --args="--users 32 --rate 20 --warmup 10s --duration 60s --csv build/loadtest/result.csv"
+ * </pre>
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ConfigurableApplicationContext app = null;
+        String baseUrl = options.baseUrl;
+        if (baseUrl == null) {
+            app = startApp();
+            baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            System.out.printf("load test %s, base-url=%s%n", options, baseUrl);
+            Workflow workflow = new Workflow(HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build(), new ObjectMapper(), baseUrl);
+
+            run(workflow, options, options.warmup);
+            EndpointStats stats = run(workflow, options, options.duration);
+
+            report(stats, options);
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApp() {
+        Map<String, String> properties = new TreeMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.database", "h2");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        properties.put("rate-limit.enabled", "false"); // 모든 요청이 같은 IP
+        properties.put("logging.level.root", "WARN");
+
+        // command line 인자로 넘겨야 application.yml보다 우선
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(FinalLikelionApplication.class).run(args);
+    }
+
+    /**
+     * 1/rate 간격으로 workflow를 예약. virtual user가 모두 바쁘면 대기열에서 기다리고 (그 시간도 응답 시간에 포함),
+     * 대기열까지 가득 차면 버리고 dropped로 셉니다.
+     */
+    private static EndpointStats run(Workflow workflow, LoadTestOptions options, Duration duration) throws InterruptedException {
+        EndpointStats stats = new EndpointStats();
+        AtomicInteger threadIds = new AtomicInteger();
+        ThreadPoolExecutor users = new ThreadPoolExecutor(options.users, options.users, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1_000, options.users * 100)),
+                r -> {
+                    Thread thread = new Thread(r, "virtual-user-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (r, executor) -> stats.drop());
+
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long scheduled = start; scheduled < end; scheduled += interval) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long at = scheduled;
+            users.execute(() -> workflow.run(at, stats));
+        }
+
+        users.shutdown();
+        if (!users.awaitTermination(1, TimeUnit.MINUTES)) {
+            users.shutdownNow();
+        }
+        return stats;
+    }
+
+    private static void report(EndpointStats stats, LoadTestOptions options) throws IOException {
+        String header = "endpoint,count,errors,error_rate,p50_ms,p99_ms,p999_ms,max_ms";
+        Files.createDirectories(options.csv.toAbsolutePath().getParent());
+        try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(options.csv))) {
+            csv.println(header);
+            System.out.printf("%-28s %8s %7s %8s %9s %9s %9s %9s%n",
+                    "endpoint", "count", "errors", "err%", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+
+            new TreeMap<>(stats.endpoints()).forEach((endpoint, endpointStats) -> {
+                Histogram latency = endpointStats.latency;
+                long count = latency.getTotalCount();
+                long errors = endpointStats.errors.sum();
+                double errorRate = count == 0 ? 0 : (double) errors / count;
+                double p50 = millis(latency.getValueAtPercentile(50));
+                double p99 = millis(latency.getValueAtPercentile(99));
+                double p999 = millis(latency.getValueAtPercentile(99.9));
+                double max = millis(latency.getMaxValue());
+
+                System.out.printf("%-28s %8d %7d %7.2f%% %9.2f %9.2f %9.2f %9.2f%n",
+                        endpoint, count, errors, errorRate * 100, p50, p99, p999, max);
+                csv.println(String.format(Locale.ROOT, "%s,%d,%d,%.4f,%.2f,%.2f,%.2f,%.2f",
+                        endpoint, count, errors, errorRate, p50, p99, p999, max));
+            });
+            // 대기열이 넘쳐서 시작하지 못한 workflow - 0이 아니면 --users가 부족하거나 서버가 rate를 못 따라감
+            csv.println(String.format(Locale.ROOT, "(dropped workflows),%d,%d,,,,,", stats.dropped(), stats.dropped()));
+        }
+        System.out.printf("dropped workflows: %d%n", stats.dropped());
+        System.out.printf("csv: %s%n", options.csv.toAbsolutePath());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+}
@@ -0,0 +1,60 @@
+package com.sns.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 실행 옵션 - --name value 형식, 시간은 10s / 1m 처럼 (DurationStyle).
+ */
+class LoadTestOptions {
+
+    int users = 16;                          // 동시에 실행할 수 있는 workflow 수 (virtual user)
+    double rate = 10;                        // 초당 시작하는 workflow 수 - 응답이 느려져도 줄지 않음 (open model)
+    Duration warmup = Duration.ofSeconds(10); // 이 동안의 결과는 버림
+    Duration duration = Duration.ofSeconds(60);
+    Path csv = Path.of("build", "loadtest", "result.csv");
+    String baseUrl;                          // 있으면 앱을 띄우지 않고 이미 떠 있는 서버로
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException(args[i] + "의 값이 없습니다.");
+            }
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--users":
+                    options.users = Integer.parseInt(value);
+                    break;
+                case "--rate":
+                    options.rate = Double.parseDouble(value);
+                    break;
+                case "--warmup":
+                    options.warmup = DurationStyle.detectAndParse(value);
+                    break;
+                case "--duration":
+                    options.duration = DurationStyle.detectAndParse(value);
+                    break;
+                case "--csv":
+                    options.csv = Path.of(value);
+                    break;
+                case "--base-url":
+                    options.baseUrl = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        if (options.users < 1 || options.rate <= 0) {
+            throw new IllegalArgumentException("--users는 1 이상, --rate는 0보다 커야 합니다.");
+        }
+        return options;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("users=%d, rate=%.1f/s, warmup=%s, duration=%s", users, rate, warmup, duration);
+    }
+}
@@ -0,0 +1,128 @@
+package com.sns.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * virtual user 하나가 실행하는 흐름: join → login → 포스트 작성 → 상세 / 피드 조회 → 수정 → 삭제.
+ * 첫 요청의 응답 시간은 예정된 시작 시각부터 잼 - 서버가 밀려서 늦게 시작한 시간도 포함 (coordinated omission 방지).
+ * 실패하면 그 뒤 단계는 실행하지 않습니다.
+ */
+class Workflow {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    Workflow(HttpClient client, ObjectMapper objectMapper, String baseUrl) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+    }
+
+    void run(long scheduledNanos, EndpointStats stats) {
+        String userName = "load-" + UUID.randomUUID();
+        Map<String, String> credentials = Map.of("userName", userName, "password", "password");
+        long start = scheduledNanos;
+
+        Step join = call(stats, "POST /api/v1/users/join", start, post("/api/v1/users/join", credentials, null));
+        if (!join.ok) {
+            return;
+        }
+        Step login = call(stats, "POST /api/v1/users/login", join.end, post("/api/v1/users/login", credentials, null));
+        if (!login.ok) {
+            return;
+        }
+        String token = login.result.path("jwt").asText();
+
+        Step write = call(stats, "POST /api/v1/posts", login.end,
+                post("/api/v1/posts", Map.of("title", "title", "body", "body " + userName), token));
+        if (!write.ok) {
+            return;
+        }
+        long postId = write.result.path("postId").asLong();
+
+        Step read = call(stats, "GET /api/v1/posts/{id}", write.end, get("/api/v1/posts/" + postId));
+        if (!read.ok) {
+            return;
+        }
+        Step feed = call(stats, "GET /api/v1/posts", read.end, get("/api/v1/posts?size=20"));
+        if (!feed.ok) {
+            return;
+        }
+        Step update = call(stats, "PUT /api/v1/posts/{id}", feed.end,
+                json("/api/v1/posts/" + postId, token).PUT(body(Map.of("title", "title2", "body", "body2"))).build());
+        if (!update.ok) {
+            return;
+        }
+        call(stats, "DELETE /api/v1/posts/{id}", update.end, json("/api/v1/posts/" + postId, token).DELETE().build());
+    }
+
+    private Step call(EndpointStats stats, String endpoint, long startNanos, HttpRequest request) {
+        JsonNode result = null;
+        boolean ok;
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            ok = response.statusCode() == 200;
+            if (ok) {
+                result = objectMapper.readTree(response.body()).path("result");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ok = false;
+        } catch (Exception e) {
+            ok = false;
+        }
+        long end = System.nanoTime();
+        stats.record(endpoint, end - startNanos, ok);
+        return new Step(ok, end, result);
+    }
+
+    private HttpRequest post(String path, Object body, String token) {
+        return json(path, token).POST(body(body)).build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private HttpRequest.Builder json(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher body(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Step {
+        final boolean ok;
+        final long end;
+        final JsonNode result;
+
+        Step(boolean ok, long end, JsonNode result) {
+            this.ok = ok;
+            this.end = end;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 시간 측정 - 프로세스를 띄운 시점부터 첫 요청이 200으로 응답할 때까지 (time-to-first-request).
+ * 빌드 없이 소스 파일 그대로 실행합니다 (JDK 11+, curl 없는 이미지에서도 동작).
+ *
+ * <pre>
+ * java scripts/StartupTimer.java [--runs 5] [--url http://localhost:8080/api/v1/posts?size=1] [--timeout 120] -- java -jar build/libs/app.jar
+ * </pre>
+ *
+ * 매 실행마다 첫 응답을 받으면 SIGTERM으로 종료하고, 마지막에 min / median / max를 출력합니다.
+ * 앱의 출력은 임시 파일로 보내고, 실패했을 때만 마지막 부분을 보여줍니다.
+ * Dockerfile에서는 AppCDS class list를 만드는 학습 실행(요청까지 한 번 받은 상태로 종료)에도 씁니다.
+ */
+public class StartupTimer {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+    public static void main(String[] args) throws Exception {
+        int runs = 1;
+        String url = "http://localhost:8080/api/v1/posts?size=1";
+        long timeoutSeconds = 120;
+
+        int i = 0;
+        for (; i < args.length && !args[i].equals("--"); i++) {
+            switch (args[i]) {
+                case "--runs":
+                    runs = Integer.parseInt(args[++i]);
+                    break;
+                case "--url":
+                    url = args[++i];
+                    break;
+                case "--timeout":
+                    timeoutSeconds = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    usage("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        if (i >= args.length - 1) {
+            usage("-- 뒤에 실행할 명령이 없습니다.");
+        }
+        List<String> command = Arrays.asList(args).subList(i + 1, args.length);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(5)).GET().build();
+
+        List<Long> results = new ArrayList<>();
+        for (int run = 1; run <= runs; run++) {
+            long millis = measure(command, client, request, Duration.ofSeconds(timeoutSeconds));
+            results.add(millis);
+            System.out.printf("run %d: %d ms%n", run, millis);
+        }
+
+        Collections.sort(results);
+        System.out.printf("time-to-first-request (%d runs) min %d ms, median %d ms, max %d ms%n",
+                runs, results.get(0), results.get(results.size() / 2), results.get(results.size() - 1));
+    }
+
+    private static long measure(List<String> command, HttpClient client, HttpRequest request, Duration timeout) throws Exception {
+        Path log = Files.createTempFile("startup-timer", ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    fail("첫 요청 전에 종료됨 (exit " + process.exitValue() + ")", log);
+                }
+                if (respondsOk(client, request)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            fail(timeout.getSeconds() + "초 안에 응답 없음", log);
+            return -1;
+        } finally {
+            stop(process);
+            Files.deleteIfExists(log);
+        }
+    }
+
+    private static boolean respondsOk(HttpClient client, HttpRequest request) throws InterruptedException {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false; // 아직 port가 열리지 않음
+        }
+    }
+
+    // SIGTERM - 정상 종료해야 -XX:DumpLoadedClassList 파일도 끝까지 써짐
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static void fail(String message, Path log) throws IOException {
+        List<String> lines = Files.readAllLines(log);
+        System.err.println(message);
+        lines.subList(Math.max(0, lines.size() - 50), lines.size()).forEach(System.err::println);
+        throw new IllegalStateException(message);
+    }
+
+    private static void usage(String message) {
+        System.err.println(message);
+        System.err.println("usage: java scripts" + File.separator + "StartupTimer.java [--runs N] [--url URL] [--timeout SECONDS] -- <command...>");
+        System.exit(2);
+    }
+}
@@ -0,0 +1,22 @@
+-- 시작 시간 측정용 데이터 (README "시작 시간") - 앱을 한 번 띄워서 Flyway로 스키마를 만든 H2 파일 DB에 실행
+-- java -cp h2.jar org.h2.tools.RunScript -url "jdbc:h2:file:/tmp/seed/db;MODE=MySQL" -user sa -script scripts/startup-seed.sql
+insert into user_entity (user_name, password, user_role, registered_at, follower_count)
+  select concat('user', x), 'password', 'USER', now(), 0 from system_range(1, 10000);
+
+insert into post_entity (title, body, created_at, last_modified_at, user_id, like_count)
+  select concat('title ', x), concat('body text for post number ', x, ' with some words'),
+         dateadd('SECOND', x, timestamp '2024-01-01 00:00:00'), dateadd('SECOND', x, timestamp '2024-01-01 00:00:00'),
+         mod(x, 10000) + 1, 0
+  from system_range(1, 300000);
+
+insert into follow_entity (follower_id, followee_id, created_at)
+  select mod(x, 10000) + 1, mod(mod(x, 10000) + 2 + (x / 10000) * 37, 10000) + 1, now() from system_range(0, 49999);
+update user_entity u set follower_count = (select count(*) from follow_entity f where f.followee_id = u.id);
+
+insert into post_like_entity (post_id, user_id, created_at)
+  select x, mod(x * 13, 10000) + 1, now() from system_range(1, 100000);
+update post_entity set like_count = 1 where id <= 100000;
+
+-- 시작할 때 메모리로 읽는 폐기 토큰 (TokenRevocationList)
+insert into revoked_token_entity (token_id, user_name, expires_at, created_at)
+  select concat('token', x), concat('user', mod(x, 10000) + 1), dateadd('DAY', 1, now()), now() from system_range(1, 20000);
@@ -0,0 +1,39 @@
+package com.sns.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원가입/로그인의 BCrypt 비용 (strength별). 기본값은 EncrypterConfig와 같은 10.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class BCryptBenchmark {
+
+    @Param({"4", "8", "10", "12"})
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encodedPassword = encoder.encode("passwordTest");
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("passwordTest");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("passwordTest", encodedPassword);
+    }
+}
@@ -0,0 +1,73 @@
+package com.sns.benchmark;
+
+import com.sns.domain.dto.post.PostDto;
+import com.sns.domain.dto.post.PostFeedView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크에서 같이 쓰는 가짜 데이터.
+ */
+class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Page<PostFeedView> feedPage(int size) {
+        LocalDateTime now = LocalDateTime.of(2022, 12, 26, 12, 0);
+        List<PostFeedView> views = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            views.add(new FeedView((long) i, "title" + i, now.minusSeconds(i), "userName" + (i % 100)));
+        }
+        return new PageImpl<>(views, PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt")), 1_000_000L);
+    }
+
+    static Page<PostDto> postDtoPage(int size) {
+        return PostDto.toDtoList(feedPage(size));
+    }
+
+    static class FeedView implements PostFeedView {
+        private final Long id;
+        private final String title;
+        private final LocalDateTime createdAt;
+        private final String userName;
+
+        FeedView(Long id, String title, LocalDateTime createdAt, String userName) {
+            this.id = id;
+            this.title = title;
+            this.createdAt = createdAt;
+            this.userName = userName;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public String getUserName() {
+            return userName;
+        }
+
+        @Override
+        public long getLikeCount() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.sns.benchmark;
+
+import com.sns.security.JwtKeyRing;
+import com.sns.utils.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter / UserService.login 에서 매 요청마다 타는 JWT 경로.
+ * JwtUtil(호출마다 parser 생성 + String key decode)과 JwtKeyRing(미리 만든 key / parser, kid로 key 선택) 비교.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "hello";
+
+    private String token;
+    private JwtKeyRing keyRing;
+    private String keyRingToken;
+
+    @Setup
+    public void setUp() {
+        token = JwtUtil.createToken("userNameTest", SECRET, 1000L * 60 * 60);
+
+        // 회전 중인 상태 - 최신 key로 서명, 예전 key / kid 없는 토큰도 검증
+        Map<String, String> keys = new LinkedHashMap<>();
+        keys.put("k2", "bmV3LXNpZ25pbmcta2V5LWZvci1iZW5jaG1hcmtpbmc=");
+        keys.put("k1", "b2xkLXNpZ25pbmcta2V5LWZvci1iZW5jaG1hcmtpbmc=");
+        keyRing = new JwtKeyRing(SECRET, keys);
+        keyRingToken = keyRing.createToken("userNameTest", Duration.ofHours(1));
+    }
+
+    @Benchmark
+    public String createToken() {
+        return JwtUtil.createToken("userNameTest", SECRET, 1000L * 60 * 60);
+    }
+
+    @Benchmark
+    public String keyRingCreateToken() {
+        return keyRing.createToken("userNameTest", Duration.ofHours(1));
+    }
+
+    @Benchmark
+    public boolean isExpired() {
+        return JwtUtil.isExpired(token, SECRET);
+    }
+
+    // 캐시 없이 서명 검증 - 같은 일을 하는 static 경로와 비교
+    @Benchmark
+    public String getUserName() {
+        return JwtUtil.getUserName(token, SECRET);
+    }
+
+    @Benchmark
+    public String keyRingParse() {
+        return keyRing.parse(keyRingToken).getUserName();
+    }
+
+    // kid 없는 예전 토큰 (legacy secret)
+    @Benchmark
+    public String keyRingParseLegacy() {
+        return keyRing.parse(token).getUserName();
+    }
+
+    // JwtFilter가 실제로 쓰는 경로 (같은 토큰은 캐시 hit) - kid 없는 예전 토큰
+    @Benchmark
+    public String verifyCached() {
+        return keyRing.verify(token).getUserName();
+    }
+
+    // kid 있는 토큰
+    @Benchmark
+    public String keyRingVerifyCached() {
+        return keyRing.verify(keyRingToken).getUserName();
+    }
+}
@@ -0,0 +1,34 @@
+package com.sns.benchmark;
+
+import com.sns.domain.dto.post.PostDto;
+import com.sns.domain.dto.post.PostFeedView;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 피드 조회 시 projection -> PostDto 변환 비용 (페이지 크기별).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostDtoBenchmark {
+
+    @Param({"20", "1000", "10000"})
+    public int pageSize;
+
+    private Page<PostFeedView> feedPage;
+
+    @Setup
+    public void setUp() {
+        feedPage = BenchmarkFixtures.feedPage(pageSize);
+    }
+
+    @Benchmark
+    public Page<PostDto> toDtoList() {
+        Page<PostDto> page = PostDto.toDtoList(feedPage);
+        page.getContent().size(); // Page.map은 바로 변환되지만 결과를 확실히 사용
+        return page;
+    }
+}
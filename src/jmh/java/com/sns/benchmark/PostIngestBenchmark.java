@@ -0,0 +1,110 @@
+package com.sns.benchmark;
+
+import com.sns.domain.dto.post.PostCreateReq;
+import com.sns.repository.PostBulkInserter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포스트 등록 처리량 (rows/sec) 비교 - H2 in-memory
+ * - singlePostPath: 지금의 POST /api/v1/posts 와 같은 모양 (작성자 조회 + 단건 IDENTITY insert, 건마다 commit)
+ * - bulkPath: POST /api/v1/posts/bulk (작성자 한 번 조회 + JDBC batch, chunk 하나를 한 트랜잭션으로)
+ * 실제 MySQL에서는 네트워크 왕복이 더해지므로 차이가 더 커집니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PostIngestBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"100", "500"})
+    public int batchSize;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private PostBulkInserter postBulkInserter;
+    private List<PostCreateReq> posts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:ingest;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists user_entity (id bigint auto_increment primary key, " +
+                "user_name varchar(255) unique, password varchar(255), user_role varchar(255))");
+        jdbcTemplate.execute("create table if not exists post_entity (id bigint auto_increment primary key, " +
+                "title varchar(255), body varchar(255), created_at timestamp, last_modified_at timestamp, " +
+                "like_count bigint default 0 not null, user_id bigint references user_entity (id))");
+        jdbcTemplate.update("insert into user_entity (user_name, password) values ('benchUser', 'passwordTest')");
+
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        postBulkInserter = new PostBulkInserter(jdbcTemplate, batchSize);
+
+        posts = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            posts.add(new PostCreateReq("title" + i, "body" + i));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.update("delete from post_entity");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long singlePostPath() {
+        long lastId = 0;
+        for (PostCreateReq post : posts) {
+            Long userId = findUserId();
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(
+                        "insert into post_entity (title, body, created_at, last_modified_at, user_id) values (?, ?, ?, ?, ?)",
+                        Statement.RETURN_GENERATED_KEYS);
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                ps.setString(1, post.getTitle());
+                ps.setString(2, post.getBody());
+                ps.setTimestamp(3, now);
+                ps.setTimestamp(4, now);
+                ps.setLong(5, userId);
+                return ps;
+            }, keyHolder);
+            lastId = keyHolder.getKey().longValue();
+        }
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Long> bulkPath() {
+        Long userId = findUserId();
+        return transactionTemplate.execute(status -> postBulkInserter.insert(userId, posts, LocalDateTime.now()));
+    }
+
+    private Long findUserId() {
+        return jdbcTemplate.queryForObject("select id from user_entity where user_name = ?", Long.class, "benchUser");
+    }
+}
@@ -0,0 +1,54 @@
+package com.sns.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sns.config.BinaryEncodingConfig;
+import com.sns.domain.dto.Response;
+import com.sns.domain.dto.post.PostDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/v1/posts 응답(Response<Page<PostDto>>)의 Jackson 직렬화 비용.
+ * ObjectMapper는 Spring Boot와 같은 방식(Jackson2ObjectMapperBuilder)으로 만듭니다.
+ * smile / cbor는 BinaryEncodingConfig와 같은 설정 (PageRes, epoch millis). 응답 크기는 setUp에서 출력.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "100", "1000"})
+    public int pageSize;
+
+    @Param({"json", "smile", "cbor"})
+    public String encoding;
+
+    private ObjectMapper objectMapper;
+    private Response<Page<PostDto>> response;
+
+    @Setup
+    public void setUp() throws Exception {
+        switch (encoding) {
+            case "smile":
+                objectMapper = BinaryEncodingConfig.binaryMapper(Jackson2ObjectMapperBuilder.json(), new SmileFactory());
+                break;
+            case "cbor":
+                objectMapper = BinaryEncodingConfig.binaryMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+                break;
+            default:
+                objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        }
+        response = Response.success(BenchmarkFixtures.postDtoPage(pageSize));
+        System.out.printf("%n%s pageSize=%d: %d bytes%n", encoding, pageSize, objectMapper.writeValueAsBytes(response).length);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,75 @@
+package com.sns.benchmark;
+
+import com.sns.search.SearchHit;
+import com.sns.search.SearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 질의 지연시간 - 포스트 100만 건 색인 기준 (상위 20건).
+ * 단어는 Zipf 분포에 가깝게 뽑아서 흔한 단어(긴 posting list)와 드문 단어를 모두 포함합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SearchBenchmark {
+
+    private static final int VOCABULARY = 50_000;
+    private static final String[] KOREAN = {"서울", "부산", "여행", "맛집", "개발", "스프링", "자바", "후기", "공부", "모임"};
+
+    @Param({"1000000"})
+    public int posts;
+
+    private SearchIndex index;
+    private String commonTerm;
+    private String rareTerm;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = new SearchIndex();
+
+        StringBuilder body = new StringBuilder();
+        for (long postId = 1; postId <= posts; postId++) {
+            body.setLength(0);
+            for (int i = 0; i < 30; i++) {
+                body.append(word(random)).append(' ');
+            }
+            body.append(KOREAN[random.nextInt(KOREAN.length)]).append("에서");
+            index.index(postId, word(random) + " " + word(random), body.toString());
+        }
+
+        commonTerm = "w1";
+        rareTerm = "w" + (VOCABULARY - 1);
+    }
+
+    @Benchmark
+    public List<SearchHit> commonTerm() {
+        return index.search(commonTerm, null, 20);
+    }
+
+    @Benchmark
+    public List<SearchHit> rareTerm() {
+        return index.search(rareTerm, null, 20);
+    }
+
+    @Benchmark
+    public List<SearchHit> twoTerms() {
+        return index.search(commonTerm + " " + rareTerm, null, 20);
+    }
+
+    @Benchmark
+    public List<SearchHit> korean() {
+        return index.search("부산 맛집", null, 20);
+    }
+
+    // 순위 r 인 단어가 대략 1/r 확률로 나오도록
+    private static String word(Random random) {
+        int rank = (int) Math.pow(VOCABULARY, random.nextDouble());
+        return "w" + rank;
+    }
+}
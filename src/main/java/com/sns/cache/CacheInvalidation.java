@@ -0,0 +1,25 @@
+package com.sns.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CacheInvalidation {
+
+    private CacheInvalidation() {
+    }
+
+    // 지금 바로 한 번, 트랜잭션 안이라면 commit/rollback 후에 한 번 더 실행
+    // (commit 전에 다른 요청이 옛날 값을 다시 캐시에 올리는 것을 막기 위함)
+    static void nowAndAfterCompletion(Runnable invalidation) {
+        invalidation.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
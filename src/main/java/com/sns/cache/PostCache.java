@@ -0,0 +1,66 @@
+package com.sns.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sns.domain.dto.post.PostDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * GET /api/v1/posts/{postId} 앞단의 read-through 캐시.
+ * PostService.update / delete에서 DB 변경 직후 바로 invalidate 합니다.
+ */
+@Component
+public class PostCache implements MeterBinder {
+
+    private final Cache<Long, PostDto> cache;
+
+    public PostCache(@Value("${cache.post.max-size:10000}") long maxSize,
+                     @Value("${cache.post.ttl:1m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // 같은 postId의 load 도중 invalidate가 오면 load가 끝난 뒤에 지워지므로 수정 이전 값이 남지 않음
+    public PostDto get(Long postId, Function<Long, PostDto> loader) {
+        return cache.get(postId, loader);
+    }
+
+    // 있는 것만 - 여러 건 조회에서 DB로 읽은 값은 넣지 않음 (수정 직후 invalidate와 겹치면 옛날 값이 남을 수 있어서)
+    public Map<Long, PostDto> getAllPresent(Iterable<Long> postIds) {
+        return cache.getAllPresent(postIds);
+    }
+
+    public void invalidate(Long postId) {
+        CacheInvalidation.nowAndAfterCompletion(() -> cache.invalidate(postId));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        cache.cleanUp();
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "post");
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", "post")
+                .register(registry);
+    }
+}
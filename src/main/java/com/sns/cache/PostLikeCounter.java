@@ -0,0 +1,211 @@
+package com.sns.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 좋아요 수 write-behind 버퍼.
+ * 좋아요마다 post_entity 행을 UPDATE 하면 인기 포스트 한 행에 row lock이 몰리므로, 메모리에서 postId별 LongAdder로 모아두고
+ * flush-interval마다 "like_count = like_count + delta"를 batch 한 번으로 반영합니다.
+ * - 요청 스레드마다 shard를 나눠서 flush가 map을 바꿔치기할 때만 잠깐 막힘 (같은 shard 안의 동시 증가는 LongAdder가 흡수)
+ * - 읽을 때는 DB 값 + pending()을 더해서 보여줌. flush가 끝나면 PostCache / PostVersionCache에서 해당 포스트를 지워 DB 값을 다시 읽게 함
+ * - 종료 시(destroy) 남은 값을 한 번 더 flush, 실패한 delta는 버리지 않고 다음 flush로 넘김
+ */
+@Slf4j
+@Component
+public class PostLikeCounter implements MeterBinder, DisposableBean {
+
+    private static final String UPDATE_SQL = "update post_entity set like_count = like_count + ? where id = ?";
+    // 피드 ETag용 (PostRepo.findFeedStamp) - post 행 다음에 올려서 삭제와 lock 순서가 같음
+    private static final String FEED_VERSION_SQL = "update feed_version set version = version + 1 where id = 1";
+
+    private final Shard[] shards;
+    private final int shardMask;
+    // DB에 쓰는 중인 delta - 쓰는 동안에도 읽기에 포함
+    private final Map<Long, Long> flushing = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostCache postCache;
+    private final PostVersionCache postVersionCache;
+    private final int batchSize;
+    private final ScheduledExecutorService flusher;
+
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+
+    public PostLikeCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, PostCache postCache,
+                           PostVersionCache postVersionCache,
+                           @Value("${post.like.flush-interval:1s}") Duration flushInterval,
+                           @Value("${post.like.batch-size:500}") int batchSize,
+                           @Value("${post.like.shards:0}") int shards) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postCache = postCache;
+        this.postVersionCache = postVersionCache;
+        this.batchSize = batchSize;
+
+        // 2의 거듭제곱으로 올림 (0이면 CPU 코어 수 x 2)
+        int count = shards > 0 ? shards : Runtime.getRuntime().availableProcessors() * 2;
+        count = Integer.highestOneBit(Math.max(count - 1, 1)) << 1;
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            this.shards[i] = new Shard();
+        }
+        this.shardMask = count - 1;
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "post-like-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void increment(Long postId) {
+        add(postId, 1);
+    }
+
+    public void decrement(Long postId) {
+        add(postId, -1);
+    }
+
+    // 아직 DB에 반영되지 않은 delta (flush 중인 것 포함)
+    public long pending(Long postId) {
+        long sum = flushing.getOrDefault(postId, 0L);
+        for (Shard shard : shards) {
+            LongAdder adder = shard.deltas.get(postId);
+            if (adder != null) {
+                sum += adder.sum();
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 모인 delta를 DB에 반영합니다. 동시에 하나만 실행.
+     *
+     * @return 반영한 포스트 수
+     */
+    public synchronized int flush() {
+        // shard마다 map을 바꿔치기하고, 꺼낸 값은 읽기에서 빠지지 않도록 flushing으로 옮김
+        for (Shard shard : shards) {
+            Map<Long, LongAdder> drained;
+            shard.lock.writeLock().lock();
+            try {
+                if (shard.deltas.isEmpty()) {
+                    continue;
+                }
+                drained = shard.deltas;
+                shard.deltas = new ConcurrentHashMap<>();
+                drained.forEach((postId, adder) -> flushing.merge(postId, adder.sum(), Long::sum));
+            } finally {
+                shard.lock.writeLock().unlock();
+            }
+        }
+        flushing.values().removeIf(delta -> delta == 0);
+        if (flushing.isEmpty()) {
+            return 0;
+        }
+
+        // id 순서로 보내서 여러 인스턴스가 동시에 flush해도 lock 순서가 같음 (deadlock 방지)
+        List<Object[]> args = new ArrayList<>(flushing.size());
+        new TreeMap<>(flushing).forEach((postId, delta) -> args.add(new Object[]{delta, postId}));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, args, batchSize, (ps, arg) -> {
+                    ps.setLong(1, (Long) arg[0]);
+                    ps.setLong(2, (Long) arg[1]);
+                });
+                jdbcTemplate.update(FEED_VERSION_SQL);
+            });
+        } catch (RuntimeException e) {
+            // 다음 flush에서 다시 시도하도록 남겨둠
+            failedFlushes.increment();
+            throw e;
+        }
+
+        for (Object[] arg : args) {
+            Long postId = (Long) arg[1];
+            postCache.invalidate(postId);
+            postVersionCache.invalidate(postId); // 피드 버전도 같이
+            flushing.remove(postId);
+        }
+        flushedRows.add(args.size());
+        return args.size();
+    }
+
+    private void add(Long postId, long delta) {
+        Shard shard = shards[(int) Thread.currentThread().getId() & shardMask];
+        shard.lock.readLock().lock();
+        try {
+            shard.deltas.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+        } finally {
+            shard.lock.readLock().unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (DataAccessException e) {
+            log.error("좋아요 수 반영 실패 ({}건): {}", flushing.size(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("좋아요 수 반영 실패", e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("post.like.pending", this, counter -> counter.pendingPosts()).register(registry);
+        FunctionCounter.builder("post.like.flushed", flushedRows, LongAdder::sum).register(registry);
+        FunctionCounter.builder("post.like.flush.failures", failedFlushes, LongAdder::sum).register(registry);
+    }
+
+    private int pendingPosts() {
+        int size = flushing.size();
+        for (Shard shard : shards) {
+            size += shard.deltas.size();
+        }
+        return size;
+    }
+
+    // 종료 전에 남은 값을 반영 (DataSource보다 먼저 destroy 됨)
+    @Override
+    public void destroy() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        flushQuietly();
+    }
+
+    private static class Shard {
+        // 증가는 read lock을 공유하고, flush가 map을 바꿀 때만 write lock
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile Map<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+    }
+}
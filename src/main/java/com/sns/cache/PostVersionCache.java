@@ -0,0 +1,69 @@
+package com.sns.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sns.domain.dto.post.PostVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET용 버전 캐시. 304 응답은 여기서 hit이면 DB를 전혀 보지 않습니다.
+ * - 포스트: PostService.update / delete에서 invalidate
+ * - 피드: 이 인스턴스의 등록/수정/삭제 시 바로 지우고, 다른 인스턴스의 변경은 feed-ttl 안에 반영
+ */
+@Component
+public class PostVersionCache implements MeterBinder {
+
+    private static final String FEED = "feed";
+
+    private final Cache<Long, PostVersion> posts;
+    private final Cache<String, PostVersion> feed;
+
+    public PostVersionCache(@Value("${cache.post-version.max-size:10000}") long maxSize,
+                            @Value("${cache.post-version.ttl:1m}") Duration ttl,
+                            @Value("${cache.post-version.feed-ttl:1s}") Duration feedTtl) {
+        this.posts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.feed = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(feedTtl)
+                .recordStats()
+                .build();
+    }
+
+    public PostVersion get(Long postId, Function<Long, PostVersion> loader) {
+        return posts.get(postId, loader);
+    }
+
+    public PostVersion getFeed(Supplier<PostVersion> loader) {
+        return feed.get(FEED, key -> loader.get());
+    }
+
+    // 포스트가 바뀌면 피드 버전도 같이 바뀜
+    public void invalidate(Long postId) {
+        CacheInvalidation.nowAndAfterCompletion(() -> {
+            posts.invalidate(postId);
+            feed.invalidate(FEED);
+        });
+    }
+
+    public void invalidateFeed() {
+        CacheInvalidation.nowAndAfterCompletion(() -> feed.invalidate(FEED));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, posts, "post-version");
+        CaffeineCacheMetrics.monitor(registry, feed, "feed-version");
+    }
+}
@@ -0,0 +1,72 @@
+package com.sns.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sns.domain.dto.user.UserPrincipal;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * JwtFilter가 요청마다 DB에서 User를 읽지 않도록 userName -> UserPrincipal을 들고 있는 캐시.
+ * 크기 제한 + TTL로 만료되고, User가 바뀌거나 삭제되면 invalidate 됩니다.
+ */
+@Component
+public class PrincipalCache implements MeterBinder {
+
+    private final Cache<String, UserPrincipal> cache;
+
+    public PrincipalCache(@Value("${cache.principal.max-size:10000}") long maxSize,
+                          @Value("${cache.principal.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // 같은 key의 load와 invalidate는 직렬화되므로 invalidate 이후에는 옛날 값이 다시 들어오지 않음
+    public UserPrincipal get(String userName, Function<String, UserPrincipal> loader) {
+        return cache.get(userName, loader);
+    }
+
+    public void invalidate(String userName) {
+        CacheInvalidation.nowAndAfterCompletion(() -> cache.invalidate(userName));
+    }
+
+    public Cache<String, UserPrincipal> getNativeCache() {
+        return cache;
+    }
+
+    public long hitCount() {
+        return stats().hitCount();
+    }
+
+    public long missCount() {
+        return stats().missCount();
+    }
+
+    public long evictionCount() {
+        return stats().evictionCount();
+    }
+
+    public CacheStats stats() {
+        cache.cleanUp();
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "principal");
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", "principal")
+                .register(registry);
+    }
+}
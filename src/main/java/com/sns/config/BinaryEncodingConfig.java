@@ -0,0 +1,71 @@
+package com.sns.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdDelegatingSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.StdConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sns.domain.dto.PageRes;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Accept 헤더로 고르는 binary 응답 - application/x-jackson-smile, application/cbor (없거나 JSON이면 기존 JSON 그대로).
+ * JSON과 같은 ObjectMapper 설정(spring.jackson.*)에서 시작해서, binary로 받는 쪽은 새 client라 더 작은 형태로 보냅니다.
+ * - Page는 PageRes(content, page, size, totalElements, hasNext)로 - pageable / sort 정보는 뺌
+ * - LocalDateTime은 @JsonFormat 문자열 대신 epoch millis 숫자 (서버 시간대 기준)
+ */
+@Configuration
+public class BinaryEncodingConfig {
+
+    // Jackson2ObjectMapperBuilder bean은 prototype이라 converter마다 따로 받음
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(binaryMapper(builder, new SmileFactory()));
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(binaryMapper(builder, new CBORFactory()));
+    }
+
+    public static ObjectMapper binaryMapper(Jackson2ObjectMapperBuilder builder, JsonFactory factory) {
+        return builder
+                .factory(factory)
+                // 모듈(JavaTimeModule 등)보다 나중에 등록돼서 이쪽이 쓰임 - 필드의 @JsonFormat도 무시
+                .serializerByType(LocalDateTime.class, new EpochMillisSerializer())
+                .serializerByType(Page.class, new StdDelegatingSerializer(new StdConverter<Page<?>, PageRes<?>>() {
+                    @Override
+                    public PageRes<?> convert(Page<?> page) {
+                        return PageRes.of(page);
+                    }
+                }))
+                .build();
+    }
+
+    private static class EpochMillisSerializer extends StdSerializer<LocalDateTime> {
+
+        private static final long serialVersionUID = 1L;
+
+        EpochMillisSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeNumber(value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+}
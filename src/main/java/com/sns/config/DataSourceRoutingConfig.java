@@ -0,0 +1,58 @@
+package com.sns.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * datasource.routing.enabled=true 일 때만 primary / replica 분리. 꺼져 있으면 기존처럼 spring.datasource 하나만 씁니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties({DataSourceProperties.class, RoutingDataSourceProperties.class})
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public RoutingDataSource routingDataSource(DataSourceProperties dataSourceProperties,
+                                               RoutingDataSourceProperties routingProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        List<DataSource> replicas = routingProperties.getReplicas().stream()
+                .map(this::replica)
+                .collect(Collectors.toList());
+
+        return new RoutingDataSource(primary, replicas,
+                routingProperties.getReadYourWritesWindow(), routingProperties.getHealthCheckInterval());
+    }
+
+    // JPA가 트랜잭션 시작 시점에 connection을 잡아도 실제 연결은 첫 SQL 때 - 그때는 readOnly 여부가 정해져 있음
+    @Bean
+    @Primary
+    public DataSource dataSource(RoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private DataSource replica(RoutingDataSourceProperties.Replica properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        if (properties.getDriverClassName() != null) {
+            dataSource.setDriverClassName(properties.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        dataSource.setInitializationFailTimeout(-1); // replica가 내려가 있어도 앱은 뜨도록
+        return dataSource;
+    }
+}
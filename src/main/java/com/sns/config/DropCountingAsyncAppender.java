@@ -0,0 +1,29 @@
+package com.sns.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * neverBlock AsyncAppender - 큐가 차면 요청 스레드를 막지 않고 버리는데, 버린 수를 셉니다 (logging.events.dropped).
+ * 큐 여유가 discardingThreshold 아래로 내려가면 INFO 이하부터 버리는 것도 포함합니다.
+ */
+public class DropCountingAsyncAppender extends AsyncAppender {
+
+    private static final LongAdder DROPPED = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if ((remaining == 0 && isNeverBlock())
+                || (remaining < getDiscardingThreshold() && isDiscardable(event))) {
+            DROPPED.increment(); // 다른 스레드와 겹치면 근사값
+        }
+        super.append(event);
+    }
+
+    public static long dropped() {
+        return DROPPED.sum();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sns.config;
+
+import com.sns.security.JwtKeyRing;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(JwtProperties.class)
+public class JwtConfig {
+
+    @Bean
+    public JwtKeyRing jwtKeyRing(JwtProperties properties) {
+        Map<String, String> secrets = new LinkedHashMap<>();
+        for (JwtProperties.Key key : properties.getKeys()) {
+            if (secrets.put(key.getId(), key.getSecret()) != null) {
+                throw new IllegalStateException("jwt.token.keys에 같은 id가 두 번 있습니다: " + key.getId());
+            }
+        }
+        return new JwtKeyRing(properties.getSecret(), secrets);
+    }
+}
@@ -1,10 +1,15 @@
 package com.sns.config;
 
-import com.sns.domain.entity.user.User;
+import com.sns.domain.dto.user.UserPrincipal;
+import com.sns.security.JwtKeyRing;
+import com.sns.security.TokenRevocationList;
 import com.sns.service.UserService;
-import com.sns.utils.JwtUtil;
-import lombok.RequiredArgsConstructor;
+import com.sns.utils.VerifiedClaims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -19,62 +24,92 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.List;
 
-@RequiredArgsConstructor
 @Slf4j
 public class JwtFilter extends OncePerRequestFilter {
 
     private final UserService userService;
-    private final String secretKey;
+    private final TokenRevocationList tokenRevocationList;
+    private final JwtKeyRing jwtKeyRing;
+    private final MeterRegistry meterRegistry;
+
+    public JwtFilter(UserService userService, TokenRevocationList tokenRevocationList, JwtKeyRing jwtKeyRing, MeterRegistry meterRegistry) {
+        this.userService = userService;
+        this.tokenRevocationList = tokenRevocationList;
+        this.jwtKeyRing = jwtKeyRing;
+        this.meterRegistry = meterRegistry;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         // 권한 주거나 안주거나
         // 개찰구 역할
+        // 인증에 걸린 시간만 jwt.filter 타이머로 기록 (뒤쪽 filterChain 시간은 제외)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = authenticate(request);
+        sample.stop(Timer.builder("jwt.filter")
+                .description("JwtFilter 인증 처리 시간")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
 
-        // 막아야 할 때
-        // 1. 토큰 미소지 --> Request할 때 토큰 미 입력
-        // 2. 다른 종류의 토큰을 가져왔을 때
-        // 3. 기간이 지난 토큰 소지
+        filterChain.doFilter(request, response);
+    }
 
+    // 막아야 할 때
+    // 1. 토큰 미소지 --> Request할 때 토큰 미 입력
+    // 2. 다른 종류의 토큰을 가져왔을 때
+    // 3. 기간이 지난 토큰 소지
+    // 4. 로그아웃 / 강제 로그아웃으로 폐기된 토큰
+    private String authenticate(HttpServletRequest request) {
+        // Authorization 헤더(토큰)는 로그에 남기지 않음
         final String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
-        log.info("authorizationHeader:{}", authorizationHeader);
 
         if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
-            log.error("헤더를 가져오는 과정에서 에러가 났습니다. 헤더가 null이거나 잘못되었습니다.");
-            filterChain.doFilter(request, response);
-            return; // 아래에서 문열어주기전에 return을 해서 다 튕겨져 나감
+            log.debug("Authorization 헤더가 없거나 Bearer 토큰이 아닙니다. 익명 요청으로 처리합니다.");
+            return "anonymous"; // 아래에서 문열어주기전에 return을 해서 다 튕겨져 나감
         }
 
         String token;
         try {
             token = authorizationHeader.split(" ")[1];   // 앞에 'Bearer'만 붙였을 경우도 방지하기 위해
         } catch (Exception e) {
-            log.error("token 추출 실패");
-            filterChain.doFilter(request, response);
-            return; // 아래에서 문열어주기전에 return을 해서 다 튕겨져 나감
+            log.warn("token 추출 실패");
+            return "invalid"; // 아래에서 문열어주기전에 return을 해서 다 튕겨져 나감
         }
 
-        // 토큰 기간 만료
-        if (JwtUtil.isExpired(token, secretKey)) {
-            log.error("token 만료");
-            filterChain.doFilter(request, response);
-            return;
+        // 토큰 검증 (서명/만료) - kid 헤더로 key를 고르고, 같은 토큰은 캐시된 claim 재사용
+        VerifiedClaims claims;
+        try {
+            claims = jwtKeyRing.verify(token);
+        } catch (JwtException e) {
+            log.warn("token 검증 실패: {}", e.getMessage());
+            return "invalid";
+        }
+
+        // 폐기 여부 - 대부분 메모리(Bloom filter)에서 끝남. DB 확인이 실패하면 통과시키지 않음
+        try {
+            if (tokenRevocationList.isRevoked(claims)) {
+                log.warn("폐기된 token userName:{}", claims.getUserName());
+                return "revoked";
+            }
+        } catch (DataAccessException e) {
+            log.error("token 폐기 여부 확인 실패 userName:{}", claims.getUserName(), e);
+            return "revoked";
         }
 
         // Token에서 Claim에서 UserName꺼내기
-        String userName = JwtUtil.getUserName(token, secretKey);
-        log.info("userName:{}", userName);
+        String userName = claims.getUserName();
 
-        // UserDetail가져오기
-        User user = userService.getUserByUserName(userName);
-        log.info("userRole:{}", user.getUserRole());
+        // UserDetail가져오기 (PrincipalCache에 있으면 DB 조회 없음)
+        UserPrincipal principal = userService.getPrincipal(userName);
+        log.info("인증 완료 userName:{}, userRole:{}", userName, principal.getUserRole()); // logging.sample.rates로 샘플링
 
-        //문 열어주기, Role 바인딩
+        //문 열어주기, Role 바인딩 (credentials에는 로그아웃에서 쓰도록 검증된 claim)
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                user.getUserName(), null, List.of(new SimpleGrantedAuthority("USER"))
+                principal.getUserName(), claims, List.of(new SimpleGrantedAuthority(principal.getAuthority()))
         );
         authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authenticationToken); // 권한 부여
-        filterChain.doFilter(request, response);
+        return "authenticated";
     }
 }
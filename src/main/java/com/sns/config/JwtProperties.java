@@ -0,0 +1,29 @@
+package com.sns.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * jwt.token.* - 서명 key. keys의 맨 위 key로 서명하고, 목록에 있는 key는 모두 검증에 씁니다 (토큰의 kid 헤더로 선택).
+ */
+@Getter
+@Setter
+@ConfigurationProperties("jwt.token")
+public class JwtProperties {
+
+    // kid 헤더가 없는 토큰(keys 도입 전 발급)의 검증 key. keys가 비어있으면 서명에도 사용, 비워두면 kid 없는 토큰은 거부
+    private String secret;
+
+    private List<Key> keys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Key {
+        private String id;     // kid 헤더 값
+        private String secret; // jjwt의 String key와 같이 base64로 decode
+    }
+}
@@ -0,0 +1,23 @@
+package com.sns.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * logback 쪽 카운터를 /actuator/prometheus로 노출 (appender / turbo filter는 Spring bean이 아니라서 static 값을 읽음).
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logging.events.dropped", this, m -> DropCountingAsyncAppender.dropped())
+                .description("async 큐가 가득 차서 버린 로그 수")
+                .register(registry);
+        FunctionCounter.builder("logging.events.sampled.out", this, m -> SamplingTurboFilter.sampledOut())
+                .description("샘플링으로 건너뛴 로그 수")
+                .register(registry);
+    }
+}
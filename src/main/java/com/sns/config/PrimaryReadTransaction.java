@@ -0,0 +1,29 @@
+package com.sns.config;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 캐시에 넣을 값을 읽는 readOnly 트랜잭션 - routing이 켜져 있어도 primary에서 읽습니다.
+ * replica는 복제 지연만큼 옛날 값을 줄 수 있는데, 그 값이 캐시에 들어가면 수정 직후 invalidate 해도 ttl 동안 남기 때문.
+ * 새 트랜잭션(REQUIRES_NEW)으로 connection을 따로 잡으므로 바깥 readOnly 트랜잭션이 이미 replica connection을 잡았어도 상관없음.
+ */
+@Component
+public class PrimaryReadTransaction {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public PrimaryReadTransaction(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public <T> T execute(Supplier<T> read) {
+        return RoutingDataSource.onPrimary(() -> transactionTemplate.execute(status -> read.get()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.sns.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 수를 스레드(=요청) 단위로 세는 StatementInspector.
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록하고, QueryCountFilter가 요청마다 초기화/기록합니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static long count() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,103 @@
+package com.sns.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sns.domain.dto.ErrorResponse;
+import com.sns.domain.dto.Response;
+import com.sns.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 바로 뒤에서 route별 요청 수 제한. 로그인 사용자는 userName, 아니면 client IP 기준입니다.
+ * 거절은 controller / DB까지 가지 않고 여기서 429 + Retry-After로 끝냅니다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimiter rateLimiter;
+    private final List<RateLimitProperties.Rule> rules;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(RateLimiter rateLimiter, List<RateLimitProperties.Rule> rules,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.rules = List.copyOf(rules);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        int ruleIndex = matchRule(request);
+        if (ruleIndex < 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitProperties.Rule rule = rules.get(ruleIndex);
+        String key = ruleIndex + ":" + clientKey(request);
+        long waitNanos = rateLimiter.tryAcquire(key, rule.getCapacity(), rule.getRefillPerSecond());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Counter.builder("rate.limit.rejected")
+                .tag("rule", rule.getPath())
+                .register(meterRegistry)
+                .increment();
+        reject(response, waitNanos);
+    }
+
+    private int matchRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (int i = 0; i < rules.size(); i++) {
+            RateLimitProperties.Rule rule = rules.get(i);
+            if ((rule.getMethod() == null || rule.getMethod().equalsIgnoreCase(request.getMethod()))
+                    && PATH_MATCHER.match(rule.getPath(), path)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // JwtFilter가 인증했으면 userName, 아니면 IP (login/join 같은 익명 route)
+    // proxy 뒤에서는 server.forward-headers-strategy: native로 remoteAddr가 X-Forwarded-For의 client IP (신뢰하는 proxy에서 온 경우만)
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                Response.error("ERROR", new ErrorResponse(errorCode, errorCode.getMessage())));
+    }
+}
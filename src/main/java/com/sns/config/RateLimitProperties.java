@@ -0,0 +1,36 @@
+package com.sns.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * rate-limit.* - route별 token bucket 설정. 어떤 rule에도 걸리지 않는 요청은 제한하지 않습니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties("rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // bucket 수 상한 - 넘으면 가득 찬(= 없는 것과 같은) bucket부터 정리
+    private int maxBuckets = 100_000;
+
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String method; // 비어있으면 모든 method
+        private String path;   // ant pattern
+        private int capacity;  // 한 번에 몰아서 보낼 수 있는 요청 수
+        private double refillPerSecond;
+    }
+}
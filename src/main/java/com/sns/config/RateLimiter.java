@@ -0,0 +1,110 @@
+package com.sns.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * key별 token bucket (GCRA 방식). bucket 하나는 "다음 토큰이 비는 시각" long 하나뿐이라 CAS 한 번으로 처리하고 lock이 없습니다.
+ * 시각이 현재보다 과거인 bucket은 가득 찬 상태라 지워도 동작이 같으므로, 주기적으로/상한을 넘으면 정리해서 메모리를 일정하게 유지합니다.
+ * 상한을 넘었을 때의 정리는 요청 스레드에서 하므로 최대 1초에 한 번 (지울 bucket이 없으면 요청마다 전체를 도는 것을 막음).
+ */
+public class RateLimiter implements MeterBinder, DisposableBean {
+
+    private static final long INLINE_SWEEP_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int maxBuckets;
+    private final LongSupplier nanoClock;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final AtomicLong lastInlineSweep;
+    private final ScheduledExecutorService sweeper;
+
+    public RateLimiter(int maxBuckets, Duration sweepInterval) {
+        this(maxBuckets, sweepInterval, System::nanoTime);
+    }
+
+    RateLimiter(int maxBuckets, Duration sweepInterval, LongSupplier nanoClock) {
+        this.maxBuckets = maxBuckets;
+        this.nanoClock = nanoClock;
+        this.lastInlineSweep = new AtomicLong(nanoClock.getAsLong() - INLINE_SWEEP_INTERVAL);
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = sweepInterval.toMillis();
+        sweeper.scheduleWithFixedDelay(this::sweep, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 토큰 하나를 꺼냅니다.
+     *
+     * @return 0이면 허용, 양수면 거절이고 그 값(ns)만큼 기다리면 다시 가능
+     */
+    public long tryAcquire(String key, int capacity, double refillPerSecond) {
+        long now = nanoClock.getAsLong();
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        long burst = interval * capacity;
+
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long next = bucket.get();
+            long newNext = Math.max(next, now) + interval;
+            if (newNext - now > burst) {
+                return newNext - burst - now;
+            }
+            if (bucket.compareAndSet(next, newNext)) {
+                if (buckets.size() > maxBuckets) {
+                    sweepIfDue(now);
+                }
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private void sweepIfDue(long now) {
+        long last = lastInlineSweep.get();
+        if (now - last >= INLINE_SWEEP_INTERVAL && lastInlineSweep.compareAndSet(last, now)) {
+            sweep();
+        }
+    }
+
+    // 가득 찬 bucket 제거 (동시에 한 스레드만)
+    void sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = nanoClock.getAsLong();
+            buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("rate.limit.buckets", buckets, Map::size).register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdownNow();
+    }
+}
@@ -0,0 +1,244 @@
+package com.sns.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * readOnly 트랜잭션은 replica로, 나머지는 primary로 보내는 DataSource.
+ * - replica는 round-robin, 주기적인 health check와 연결 실패 시 제외 (모두 내려가면 primary)
+ * - 로그인 사용자가 쓰기 트랜잭션을 열면 read-your-writes 시간 동안 그 사용자의 읽기도 primary로
+ * - onPrimary 안에서 잡는 connection은 readOnly여도 primary로 (캐시에 넣을 값 - PrimaryReadTransaction)
+ * 트랜잭션의 readOnly 여부는 connection을 실제로 쓸 때 정해지므로 반드시 LazyConnectionDataSourceProxy로 감싸서 씁니다.
+ */
+@Slf4j
+public class RoutingDataSource extends AbstractRoutingDataSource implements MeterBinder, DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Cache<String, Boolean> pinnedUsers;
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final ScheduledExecutorService healthChecker;
+
+    public RoutingDataSource(DataSource primary, List<DataSource> replicaDataSources,
+                             Duration readYourWritesWindow, Duration healthCheckInterval) {
+        this.primary = primary;
+        this.replicas = replicaDataSources.stream().map(Replica::new).collect(Collectors.toList());
+        this.pinnedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(100_000)
+                .build();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(replicaKey(i), replicas.get(i).dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = healthCheckInterval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // 이 안에서 잡는 connection은 primary로 (routing이 꺼져 있으면 그냥 실행)
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (FORCE_PRIMARY.get() != null) {
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+
+        String userName = currentUserName();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userName != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                pinnedUsers.put(userName, Boolean.TRUE);
+            }
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+
+        if (userName != null && pinnedUsers.getIfPresent(userName) != null) {
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+
+        Replica replica = nextHealthyReplica();
+        if (replica == null) {
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+        replica.routes.increment();
+        return replicaKey(replicas.indexOf(replica));
+    }
+
+    // replica 연결에 실패하면 그 replica는 health check가 다시 살릴 때까지 빼고 다음 replica로, 다 안 되면 primary로
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+
+        Replica replica = replicas.get(Integer.parseInt(((String) key).substring("replica-".length())));
+        while (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                markDown(replica, e);
+                replica.routes.decrement();
+                replica = nextHealthyReplica();
+                if (replica != null) {
+                    replica.routes.increment();
+                }
+            }
+        }
+        primaryRoutes.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    long routeCount(String key) {
+        if (PRIMARY.equals(key)) {
+            return primaryRoutes.sum();
+        }
+        return replicas.get(Integer.parseInt(key.substring("replica-".length()))).routes.sum();
+    }
+
+    void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                boolean valid = connection.isValid(1);
+                if (valid && !replica.healthy) {
+                    log.info("replica 복구: {}", replicaKey(replicas.indexOf(replica)));
+                }
+                replica.healthy = valid;
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), size));
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void markDown(Replica replica, SQLException e) {
+        if (replica.healthy) {
+            log.warn("replica 제외: {} - {}", replicaKey(replicas.indexOf(replica)), e.getMessage());
+        }
+        replica.healthy = false;
+    }
+
+    private static String currentUserName() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+
+    private static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("datasource.routing", primaryRoutes, LongAdder::sum)
+                .tag("target", PRIMARY)
+                .register(registry);
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            FunctionCounter.builder("datasource.routing", replica.routes, LongAdder::sum)
+                    .tag("target", replicaKey(i))
+                    .register(registry);
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("target", replicaKey(i))
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        healthChecker.shutdownNow();
+        close(primary);
+        for (Replica replica : replicas) {
+            close(replica.dataSource);
+        }
+    }
+
+    private static void close(DataSource dataSource) throws IOException {
+        if (dataSource instanceof Closeable) {
+            ((Closeable) dataSource).close();
+        }
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private final LongAdder routes = new LongAdder();
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
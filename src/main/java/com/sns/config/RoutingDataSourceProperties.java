@@ -0,0 +1,37 @@
+package com.sns.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * datasource.routing.* - 읽기 전용 replica 설정. primary는 기존 spring.datasource를 그대로 씁니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties("datasource.routing")
+public class RoutingDataSourceProperties {
+
+    private boolean enabled;
+
+    // 쓰기 직후 이 시간 동안은 해당 사용자의 읽기도 primary로 (replica 복제 지연 대비)
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,65 @@
+package com.sns.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * logger별 로그 샘플링 (logback-spring.xml에서 등록). 이벤트 객체를 만들기 전에 걸러서 버린 로그는 비용이 거의 없습니다.
+ * - sample: "logger이름=비율" 을 콤마로 구분 (예: org.hibernate.SQL=0.01). 가장 긴 prefix가 적용됨
+ * - WARN 이상과 isXxxEnabled() 확인은 샘플링하지 않음
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final LongAdder SAMPLED_OUT = new LongAdder();
+    private static final double NOT_SAMPLED = -1;
+
+    private final Map<String, Double> rates = new ConcurrentHashMap<>();
+    private final Map<String, Double> rateByLogger = new ConcurrentHashMap<>();
+
+    public void addSample(String sample) {
+        for (String entry : sample.split(",")) {
+            int idx = entry.indexOf('=');
+            if (idx > 0) {
+                rates.put(entry.substring(0, idx).trim(), Double.parseDouble(entry.substring(idx + 1).trim()));
+            }
+        }
+        rateByLogger.clear();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        double rate = rateByLogger.computeIfAbsent(logger.getName(), this::rateFor);
+        if (rate == NOT_SAMPLED || rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate) {
+            return FilterReply.NEUTRAL;
+        }
+        SAMPLED_OUT.increment();
+        return FilterReply.DENY;
+    }
+
+    public static long sampledOut() {
+        return SAMPLED_OUT.sum();
+    }
+
+    private double rateFor(String loggerName) {
+        String matched = null;
+        for (String prefix : rates.keySet()) {
+            if ((loggerName.equals(prefix) || loggerName.startsWith(prefix + "."))
+                    && (matched == null || prefix.length() > matched.length())) {
+                matched = prefix;
+            }
+        }
+        return matched == null ? NOT_SAMPLED : rates.get(matched);
+    }
+}
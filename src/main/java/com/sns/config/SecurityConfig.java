@@ -1,8 +1,12 @@
 package com.sns.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sns.domain.entity.user.UserRole;
+import com.sns.security.JwtKeyRing;
+import com.sns.security.TokenRevocationList;
 import com.sns.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -18,25 +22,39 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final UserService userService;
-
-    @Value("${jwt.token.secret}")
-    private String secretKey;
+    private final TokenRevocationList tokenRevocationList;
+    private final JwtKeyRing jwtKeyRing;
+    private final MeterRegistry meterRegistry;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
-        return httpSecurity
+        httpSecurity
                 .httpBasic().disable()
                 .csrf().disable()
                 .cors().and()
                 .authorizeRequests()
                 .antMatchers("/api/v1/users/join", "/api/v1/users/login").permitAll() // join, login은 언제나 가능
                 .antMatchers(HttpMethod.POST, "/api/v1/posts", "/api/v1/posts/*").authenticated() // permitAll 다음에 만들어줘야함 - 문만들기
+                .antMatchers(HttpMethod.GET, "/api/v1/posts/export").authenticated()
+                .antMatchers("/api/v1/posts/*/likes", "/api/v1/users/*/follow").authenticated()
+                .antMatchers(HttpMethod.GET, "/api/v1/posts/timeline").authenticated()
+                .antMatchers(HttpMethod.POST, "/api/v1/users/logout").authenticated()
+                .antMatchers(HttpMethod.POST, "/api/v1/users/*/revoke-tokens").hasAuthority(UserRole.ADMIN.name()) // 강제 로그아웃은 관리자만
                 .and()
                 .sessionManagement()
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS) // jwt사용하는 경우 씀
                 .and()
                 //UserNamePasswordAuthenticationFilter적용하기 전에 JWTTokenFilter를 적용 하라는 뜻 입니다.
-                .addFilterBefore(new JwtFilter(userService, secretKey), UsernamePasswordAuthenticationFilter.class)
-                .build();
+                .addFilterBefore(new JwtFilter(userService, tokenRevocationList, jwtKeyRing, meterRegistry), UsernamePasswordAuthenticationFilter.class);
+
+        if (rateLimitProperties.isEnabled()) {
+            // JwtFilter가 userName을 정한 뒤에 제한 - 익명 요청은 IP 기준
+            httpSecurity.addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProperties.getRules(), objectMapper, meterRegistry),
+                    JwtFilter.class);
+        }
+        return httpSecurity.build();
     }
 }
@@ -2,22 +2,50 @@ package com.sns.controller;
 
 import com.sns.domain.dto.Response;
 import com.sns.domain.dto.post.*;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sns.service.PostBulkService;
+import com.sns.service.PostExportService;
+import com.sns.service.PostLikeService;
+import com.sns.service.PostSearchService;
 import com.sns.service.PostService;
+import com.sns.service.TimelineService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import springfox.documentation.annotations.ApiIgnore;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.TreeMap;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/posts")
 @Slf4j
 public class PostController {
 
+    static final String SEARCH_PARTIAL_HEADER = "X-Search-Partial";
+    private static final List<MediaType> BINARY_ENCODINGS = List.of(
+            MediaType.parseMediaType("application/x-jackson-smile"), MediaType.APPLICATION_CBOR);
+
     private final PostService postService;
+    private final PostExportService postExportService;
+    private final PostBulkService postBulkService;
+    private final PostSearchService postSearchService;
+    private final PostLikeService postLikeService;
+    private final TimelineService timelineService;
+    private final ObjectMapper objectMapper;
 
     //CRUD
 
@@ -29,17 +57,80 @@ public class PostController {
         return Response.success(new PostCreateRes("포스트 등록 완료", postDto.getId()));
     }
 
+    // 대량 등록 - JSON 배열
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Response<PostBulkCreateRes> bulkWrite(@RequestBody List<PostCreateReq> createReqs, @ApiIgnore Authentication authentication) {
+        return Response.success(postBulkService.write(createReqs.iterator(), authentication.getName()));
+    }
+
+    // 대량 등록 - NDJSON (한 줄씩 읽으면서 처리해서 요청 전체를 메모리에 올리지 않음)
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public Response<PostBulkCreateRes> bulkWriteNdjson(@ApiIgnore HttpServletRequest request, @ApiIgnore Authentication authentication) throws IOException {
+        try (MappingIterator<PostCreateReq> createReqs = objectMapper.readerFor(PostCreateReq.class).readValues(request.getInputStream())) {
+            return Response.success(postBulkService.write(createReqs, authentication.getName()));
+        }
+    }
+
     //Read
+    // 조건부 GET - If-None-Match / If-Modified-Since가 맞으면 PostDto를 만들지 않고 304
     @GetMapping("/{postId}")
-    public Response<PostDto> findById(@PathVariable Long postId) {
+    public Response<PostDto> findById(@PathVariable Long postId, @ApiIgnore WebRequest webRequest, @ApiIgnore HttpServletResponse response) {
+        if (notModified(postService.getVersion(postId), webRequest, response)) {
+            return null;
+        }
         return Response.success(postService.get(postId));
     }
 
+    // 여러 건 조회 - ids=1,2,3 (최대 100건), 없는 포스트는 missingIds로
+    @GetMapping("/batch")
+    public Response<PostBatchRes> findByIds(@RequestParam List<Long> ids) {
+        return Response.success(postService.getBatch(ids));
+    }
+
     @GetMapping("")
-    public Response<Page<PostDto>> list(Pageable pageable) {
+    public Response<Page<PostDto>> list(Pageable pageable, @ApiIgnore WebRequest webRequest, @ApiIgnore HttpServletResponse response) {
+        if (notModified(postService.getFeedVersion().withVariant(parameters(webRequest)), webRequest, response)) {
+            return null;
+        }
         return Response.success(postService.getAllPost(pageable));
     }
 
+    // cursor 파라미터가 있으면 커서 모드 (첫 페이지는 cursor= 로 요청)
+    @GetMapping(value = "", params = "cursor")
+    public Response<PostSliceRes> listByCursor(@RequestParam String cursor, @RequestParam(defaultValue = "20") int size,
+                                               @ApiIgnore WebRequest webRequest, @ApiIgnore HttpServletResponse response) {
+        if (notModified(postService.getFeedVersion().withVariant(parameters(webRequest)), webRequest, response)) {
+            return null;
+        }
+        return Response.success(postService.getPostSlice(cursor, size));
+    }
+
+    // 제목/본문 검색 - 관련도 순, 다음 페이지는 응답의 nextCursor로 요청
+    // 시작 직후 색인을 만드는 중이면 일부 결과이고 X-Search-Partial: true 헤더를 붙임
+    @GetMapping("/search")
+    public Response<PostSliceRes> search(@RequestParam String q, @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "20") int size, @ApiIgnore HttpServletResponse response) {
+        if (!postSearchService.isIndexReady()) {
+            response.setHeader(SEARCH_PARTIAL_HEADER, "true");
+        }
+        return Response.success(postSearchService.search(q, cursor, size));
+    }
+
+    // 홈 타임라인 - 내 글 + 팔로우한 계정의 글 최신순, 다음 페이지는 응답의 nextCursor로 요청
+    @GetMapping("/timeline")
+    public Response<PostSliceRes> timeline(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size,
+                                           @ApiIgnore Authentication authentication) {
+        return Response.success(timelineService.getTimeline(authentication.getName(), cursor, size));
+    }
+
+    // 전체 포스트 NDJSON export (다운스트림 배치용) - 응답에 바로 써서 메모리에 모으지 않음
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        postExportService.export(response.getOutputStream());
+    }
+
     //Update
     @PutMapping("/{postId}")
     public Response<PostUpdateRes> update(@PathVariable Long postId, @RequestBody PostUpdateReq updateReq, @ApiIgnore Authentication authentication) {
@@ -53,4 +144,61 @@ public class PostController {
         PostDto postDto = postService.delete(postId, authentication.getName());
         return Response.success(new PostDeleteRes("포스트 삭제 완료", postDto.getId()));
     }
+
+    //Like
+    // 이미 누른 상태에서 다시 눌러도 성공 (취소도 마찬가지)
+    @PostMapping("/{postId}/likes")
+    public Response<PostLikeRes> like(@PathVariable Long postId, @ApiIgnore Authentication authentication) {
+        postLikeService.like(postId, authentication.getName());
+        return Response.success(new PostLikeRes("좋아요 완료", postId));
+    }
+
+    @DeleteMapping("/{postId}/likes")
+    public Response<PostLikeRes> unlike(@PathVariable Long postId, @ApiIgnore Authentication authentication) {
+        postLikeService.unlike(postId, authentication.getName());
+        return Response.success(new PostLikeRes("좋아요 취소 완료", postId));
+    }
+
+    // 매번 재검증(no-cache)하되 변경이 없으면 본문 없이 304 - ETag / Last-Modified 헤더는 checkNotModified가 붙여줌
+    // JSON / Smile / CBOR는 본문이 다르므로 ETag도 표현마다 따로, 캐시도 Accept별로 따로 (Vary)
+    private boolean notModified(PostVersion version, WebRequest webRequest, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePublic().getHeaderValue());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        PostVersion representation = version.withVariant(binaryEncoding(webRequest));
+        return webRequest.checkNotModified(representation.getEtag(), representation.getLastModified());
+    }
+
+    // Accept에서 가장 우선인 binary encoding (JSON이면 null - 기존 JSON ETag는 그대로)
+    private String binaryEncoding(WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return null;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        MediaType.sortBySpecificityAndQuality(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+            for (MediaType binary : BINARY_ENCODINGS) {
+                if (mediaType.includes(binary)) {
+                    return binary.toString();
+                }
+            }
+        }
+        return null;
+    }
+
+    // 페이지/정렬 파라미터 - 순서와 상관없이 같은 요청이면 같은 값
+    private String parameters(WebRequest webRequest) {
+        StringBuilder parameters = new StringBuilder();
+        new TreeMap<>(webRequest.getParameterMap()).forEach((name, values) ->
+                parameters.append(name).append('=').append(String.join(",", values)).append('&'));
+        return parameters.toString();
+    }
 }
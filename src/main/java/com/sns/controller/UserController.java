@@ -1,13 +1,25 @@
 package com.sns.controller;
 
 import com.sns.domain.dto.Response;
+import com.sns.domain.dto.post.PostSliceRes;
 import com.sns.domain.dto.user.*;
+import com.sns.service.FollowService;
+import com.sns.service.PostService;
+import com.sns.utils.VerifiedClaims;
 import com.sns.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import springfox.documentation.annotations.ApiIgnore;
+
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -15,16 +27,53 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService;
+    private final FollowService followService;
+    private final PostService postService;
 
+    // join, login은 비밀번호 해싱이 끝나면 응답 (요청 스레드는 먼저 반환됨)
     @PostMapping("/join")
-    public Response<UserJoinRes> join(@RequestBody UserJoinReq joinReq){
-        UserDto userDto = userService.join(joinReq);
-        return Response.success(new UserJoinRes(userDto.getId(), userDto.getUserName()));
+    public CompletableFuture<Response<UserJoinRes>> join(@RequestBody UserJoinReq joinReq){
+        return userService.join(joinReq)
+                .thenApply(userDto -> Response.success(new UserJoinRes(userDto.getId(), userDto.getUserName())));
     }
 
     @PostMapping("/login")
-    public Response<UserLoginRes> login(@RequestBody UserLoginReq loginReq){
-        String token = userService.login(loginReq.getUserName(), loginReq.getPassword());
-        return Response.success(new UserLoginRes(token));
+    public CompletableFuture<Response<UserLoginRes>> login(@RequestBody UserLoginReq loginReq){
+        return userService.login(loginReq.getUserName(), loginReq.getPassword())
+                .thenApply(token -> Response.success(new UserLoginRes(token)));
+    }
+
+    // 지금 요청에 쓴 토큰을 폐기 (다른 기기의 토큰은 그대로)
+    @PostMapping("/logout")
+    public Response<TokenRevokeRes> logout(@ApiIgnore Authentication authentication) {
+        userService.logout((VerifiedClaims) authentication.getCredentials());
+        return Response.success(new TokenRevokeRes("로그아웃 완료", authentication.getName()));
+    }
+
+    // 강제 로그아웃 (관리자) - userName에게 지금까지 발급된 토큰 전부 폐기
+    @PostMapping("/{userName}/revoke-tokens")
+    public Response<TokenRevokeRes> revokeTokens(@PathVariable String userName) {
+        userService.revokeTokens(userName);
+        return Response.success(new TokenRevokeRes("토큰 폐기 완료", userName));
+    }
+
+    // 이미 팔로우 중이어도 성공 (언팔로우도 마찬가지)
+    @PostMapping("/{userName}/follow")
+    public Response<FollowRes> follow(@PathVariable String userName, @ApiIgnore Authentication authentication) {
+        followService.follow(authentication.getName(), userName);
+        return Response.success(new FollowRes("팔로우 완료", userName));
+    }
+
+    @DeleteMapping("/{userName}/follow")
+    public Response<FollowRes> unfollow(@PathVariable String userName, @ApiIgnore Authentication authentication) {
+        followService.unfollow(authentication.getName(), userName);
+        return Response.success(new FollowRes("언팔로우 완료", userName));
+    }
+
+    // 작성자별 포스트 최신순, 다음 페이지는 응답의 nextCursor로 요청
+    @GetMapping("/{userName}/posts")
+    public Response<PostSliceRes> posts(@PathVariable String userName, @RequestParam(required = false) String cursor,
+                                        @RequestParam(defaultValue = "20") int size) {
+        return Response.success(postService.getUserPostSlice(userName, cursor, size));
     }
 }
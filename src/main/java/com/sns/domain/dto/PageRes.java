@@ -0,0 +1,26 @@
+package com.sns.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Page의 필요한 값만 담은 응답 - Spring의 pageable / sort 정보는 요청 파라미터 그대로라 빼고 보냅니다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PageRes<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private boolean hasNext;
+
+    public static <T> PageRes<T> of(Page<T> page) {
+        return new PageRes<>(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements(), page.hasNext());
+    }
+}
@@ -0,0 +1,15 @@
+package com.sns.domain.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostBatchRes {
+    private List<PostDto> posts; // 요청한 순서 (중복 id는 한 번만)
+    private List<Long> missingIds; // 없거나 삭제된 포스트
+}
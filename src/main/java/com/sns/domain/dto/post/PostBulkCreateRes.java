@@ -0,0 +1,16 @@
+package com.sns.domain.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostBulkCreateRes {
+    private int created;
+    private int failed;
+    private List<PostBulkItemRes> items;
+}
@@ -0,0 +1,24 @@
+package com.sns.domain.dto.post;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostBulkItemRes {
+    private int index;
+    private Long postId;
+    private String error;
+
+    public static PostBulkItemRes success(int index, Long postId) {
+        return new PostBulkItemRes(index, postId, null);
+    }
+
+    public static PostBulkItemRes fail(int index, String error) {
+        return new PostBulkItemRes(index, null, error);
+    }
+}
@@ -0,0 +1,38 @@
+package com.sns.domain.dto.post;
+
+import com.sns.exception.AppException;
+import com.sns.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 페이징용 토큰. 마지막으로 내려준 포스트의 (createdAt, id)를 Base64로 감싸서 클라이언트에는 불투명하게 보이게 합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+
+    private static final String DELIMITER = "|";
+
+    private LocalDateTime createdAt;
+    private Long id;
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new AppException(ErrorCode.INVALID_CURSOR, String.format("%s는 올바른 커서가 아닙니다.", cursor));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.sns.domain.dto.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포스트 상세 조회용 projection.
+ */
+public interface PostDetailView {
+    Long getId();
+
+    String getTitle();
+
+    String getBody();
+
+    String getUserName();
+
+    long getLikeCount();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getLastModifiedAt();
+}
@@ -7,11 +7,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class PostDto {
@@ -20,6 +21,7 @@ public class PostDto {
     private String title;
     private String body;
     private String userName;
+    private long likeCount;
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
     private LocalDateTime createdAt;
@@ -40,15 +42,34 @@ public class PostDto {
     }
 
 
-    public static Page<PostDto> toDtoList(Page<Post> postEntities) {
-        Page<PostDto> postDtoList = postEntities.map(m -> PostDto.builder()
+    public static PostDto of(PostDetailView view) {
+        return PostDto.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .body(view.getBody())
+                .userName(view.getUserName())
+                .likeCount(view.getLikeCount())
+                .createdAt(view.getCreatedAt())
+                .lastModifiedAt(view.getLastModifiedAt())
+                .build();
+    }
+
+    public static Page<PostDto> toDtoList(Page<PostFeedView> feedViews) {
+        Page<PostDto> postDtoList = feedViews.map(PostDto::toListItem);
+        return postDtoList;
+    }
+
+    public static Slice<PostDto> toDtoList(Slice<PostFeedView> feedViews) {
+        return feedViews.map(PostDto::toListItem);
+    }
+
+    public static PostDto toListItem(PostFeedView m) {
+        return PostDto.builder()
                 .id(m.getId())
                 .title(m.getTitle())
-                .body(m.getBody())
-                .userName(m.getUser().getUserName())
+                .userName(m.getUserName())
+                .likeCount(m.getLikeCount())
                 .createdAt(m.getCreatedAt())
-                .build());
-        return postDtoList;
+                .build();
     }
 }
-
@@ -0,0 +1,14 @@
+package com.sns.domain.dto.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 버전 계산용 집계 projection.
+ */
+public interface PostFeedStamp {
+    Long getMaxId();
+
+    LocalDateTime getLastModifiedAt();
+
+    Long getVersion(); // feed_version - 삭제 / 좋아요 수 반영 때 증가
+}
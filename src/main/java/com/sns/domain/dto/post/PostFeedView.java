@@ -0,0 +1,18 @@
+package com.sns.domain.dto.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 목록용 projection. Post와 User를 한 번의 join으로 읽고 필요한 컬럼만 가져옵니다.
+ */
+public interface PostFeedView {
+    Long getId();
+
+    String getTitle();
+
+    LocalDateTime getCreatedAt();
+
+    String getUserName();
+
+    long getLikeCount();
+}
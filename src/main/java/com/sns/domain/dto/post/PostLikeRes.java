@@ -0,0 +1,13 @@
+package com.sns.domain.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostLikeRes {
+    private String message;
+    private Long postId;
+}
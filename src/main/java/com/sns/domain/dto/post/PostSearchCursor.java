@@ -0,0 +1,39 @@
+package com.sns.domain.dto.post;
+
+import com.sns.exception.AppException;
+import com.sns.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 검색 결과 커서. 마지막으로 내려준 결과의 (score, id)를 Base64로 감쌉니다.
+ * score는 float 비트를 그대로 넣어서 문자열 변환으로 값이 달라지지 않게 합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostSearchCursor {
+
+    private static final String DELIMITER = "|";
+
+    private float score;
+    private Long id;
+
+    public String encode() {
+        String raw = Integer.toHexString(Float.floatToIntBits(score)) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            float score = Float.intBitsToFloat(Integer.parseUnsignedInt(raw.substring(0, idx), 16));
+            return new PostSearchCursor(score, Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new AppException(ErrorCode.INVALID_CURSOR, String.format("%s는 올바른 커서가 아닙니다.", cursor));
+        }
+    }
+}
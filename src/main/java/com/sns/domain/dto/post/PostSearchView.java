@@ -0,0 +1,12 @@
+package com.sns.domain.dto.post;
+
+/**
+ * 검색 색인용 projection. 색인에 필요한 id, title, body만 읽습니다.
+ */
+public interface PostSearchView {
+    Long getId();
+
+    String getTitle();
+
+    String getBody();
+}
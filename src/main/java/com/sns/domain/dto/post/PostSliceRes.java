@@ -0,0 +1,17 @@
+package com.sns.domain.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostSliceRes {
+    private List<PostDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
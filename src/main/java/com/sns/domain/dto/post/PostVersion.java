@@ -0,0 +1,46 @@
+package com.sns.domain.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET(ETag / Last-Modified)용 버전 정보. 본문을 만들지 않고 바뀌었는지만 판단할 때 씁니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostVersion {
+
+    private String etag;
+    private long lastModified; // epoch millis, 모르면 -1
+
+    // 포스트 하나 - id + 마지막 수정 시각(ns까지) + DB에 반영된 좋아요 수 (좋아요는 수정 시각을 바꾸지 않음)
+    public static PostVersion of(Long postId, PostVersionStamp stamp) {
+        long nanos = toEpochNanos(stamp.getLastModifiedAt());
+        return new PostVersion("p" + postId + "-" + Long.toHexString(nanos) + "-" + Long.toHexString(stamp.getLikeCount()),
+                nanos / 1_000_000);
+    }
+
+    // 피드 - 등록(max id), 수정(max lastModifiedAt), 삭제 / 좋아요 반영(feed_version) 중 하나라도 바뀌면 달라짐
+    // 삭제는 Last-Modified를 바꾸지 않으므로 피드는 ETag만 사용
+    public static PostVersion of(PostFeedStamp stamp) {
+        String etag = "f" + Long.toHexString(stamp.getVersion() == null ? 0 : stamp.getVersion())
+                + "-" + Long.toHexString(stamp.getMaxId() == null ? 0 : stamp.getMaxId())
+                + "-" + Long.toHexString(toEpochNanos(stamp.getLastModifiedAt()));
+        return new PostVersion(etag, -1);
+    }
+
+    // 같은 데이터라도 페이지(요청 파라미터)마다 응답이 다르므로 ETag를 구분
+    public PostVersion withVariant(String variant) {
+        return variant == null || variant.isEmpty() ? this : new PostVersion(etag + "-" + Integer.toHexString(variant.hashCode()), lastModified);
+    }
+
+    private static long toEpochNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond() * 1_000_000_000L + dateTime.getNano();
+    }
+}
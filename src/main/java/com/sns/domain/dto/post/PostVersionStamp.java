@@ -0,0 +1,12 @@
+package com.sns.domain.dto.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포스트 하나의 버전 계산용 projection (본문 없이 시각과 좋아요 수만).
+ */
+public interface PostVersionStamp {
+    LocalDateTime getLastModifiedAt();
+
+    long getLikeCount();
+}
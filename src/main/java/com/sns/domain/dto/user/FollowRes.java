@@ -0,0 +1,13 @@
+package com.sns.domain.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class FollowRes {
+    private String message;
+    private String userName;
+}
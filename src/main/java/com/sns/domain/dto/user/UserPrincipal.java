@@ -0,0 +1,25 @@
+package com.sns.domain.dto.user;
+
+import com.sns.domain.entity.user.User;
+import com.sns.domain.entity.user.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인증 토큰(UsernamePasswordAuthenticationToken)을 만드는 데 필요한 값만 담은 불변 객체. PrincipalCache에 저장됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserPrincipal {
+    private final String userName;
+    private final UserRole userRole;
+
+    public static UserPrincipal of(User user) {
+        return new UserPrincipal(user.getUserName(), user.getUserRole());
+    }
+
+    // role이 비어있는 기존 회원은 USER로 취급
+    public String getAuthority() {
+        return userRole == null ? UserRole.USER.name() : userRole.name();
+    }
+}
@@ -2,6 +2,7 @@ package com.sns.domain.entity.post;
 
 import com.sns.domain.entity.user.User;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 
@@ -11,7 +12,12 @@ import javax.persistence.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "PostEntity")
+// 스키마는 Flyway(db/migration)로 관리 - 인덱스는 여기에도 같이 적어둠
+@Table(name = "PostEntity", indexes = {
+        @Index(name = "idx_post_created_at_id", columnList = "createdAt desc, id desc"),
+        @Index(name = "idx_post_user_created_at_id", columnList = "user_id, createdAt desc, id desc"),
+        @Index(name = "idx_post_last_modified_at", columnList = "lastModifiedAt")
+})
 public class Post extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,6 +26,11 @@ public class Post extends BaseEntity {
     private String title;
     private String body;
 
+    // 좋아요 수는 PostLikeCounter가 모아서 like_count + delta로만 반영 (엔티티 저장으로 덮어쓰지 않음)
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long likeCount;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     private User user;
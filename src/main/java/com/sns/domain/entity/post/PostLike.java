@@ -0,0 +1,43 @@
+package com.sns.domain.entity.post;
+
+import com.sns.domain.entity.user.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 누가 어떤 포스트에 좋아요를 눌렀는지 (사용자당 포스트 하나에 한 번).
+ * 개수는 여기서 세지 않고 Post.likeCount에 모아서 반영합니다 (PostLikeCounter).
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "PostLikeEntity", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_like_post_user", columnNames = {"post_id", "user_id"})
+})
+public class PostLike {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 포스트 삭제는 DELETE 한 문장으로 처리하므로 좋아요는 DB에서 같이 지움
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,38 @@
+package com.sns.domain.entity.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * follower가 followee를 팔로우 (한 쌍에 한 행).
+ * (follower_id, followee_id) unique로 내 팔로우 목록을, followee_id 인덱스로 팔로워 목록(fan-out)을 찾습니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "FollowEntity",
+        uniqueConstraints = @UniqueConstraint(name = "uk_follow_follower_followee", columnNames = {"follower_id", "followee_id"}),
+        indexes = @Index(name = "idx_follow_followee", columnList = "followee_id"))
+public class Follow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "follower_id", nullable = false)
+    private User follower;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "followee_id", nullable = false)
+    private User followee;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,43 @@
+package com.sns.domain.entity.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 토큰 (TokenRevocationList가 메모리에 올려서 JwtFilter에서 확인).
+ * - 로그아웃: tokenId(jti)만 폐기
+ * - 강제 로그아웃: userName의 issuedBefore 이전(같은 초 포함)에 발급된 토큰 전부 폐기
+ * 원래 토큰이 만료되는 expiresAt이 지나면 필요 없으므로 주기적으로 지웁니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "RevokedTokenEntity",
+        uniqueConstraints = @UniqueConstraint(name = "uk_revoked_token_token_id", columnNames = "token_id"),
+        indexes = @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt"))
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_id", length = 64)
+    private String tokenId;
+
+    @Column(nullable = false)
+    private String userName;
+
+    private LocalDateTime issuedBefore;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime createdAt;
+}
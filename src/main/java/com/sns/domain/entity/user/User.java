@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "UserEntity")
+@EntityListeners(UserEntityListener.class)
 public class User {
 
     @Id
@@ -31,4 +33,9 @@ public class User {
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
 
+    // 팔로우 / 언팔로우 때 follower_count + 1 / - 1로만 변경 (팔로워가 많은 계정은 타임라인 fan-out 대신 읽을 때 병합)
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long followerCount;
+
 }
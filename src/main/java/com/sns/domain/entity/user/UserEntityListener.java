@@ -0,0 +1,28 @@
+package com.sns.domain.entity.user;
+
+import com.sns.cache.PrincipalCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * User가 수정/삭제되면 PrincipalCache에서 해당 userName을 지웁니다.
+ * Hibernate가 Spring bean으로 생성하며, 캐시가 없는 테스트 슬라이스에서는 아무것도 하지 않습니다.
+ */
+@Component
+public class UserEntityListener {
+
+    private final ObjectProvider<PrincipalCache> principalCache;
+
+    public UserEntityListener(ObjectProvider<PrincipalCache> principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evictPrincipal(User user) {
+        principalCache.ifAvailable(cache -> cache.invalidate(user.getUserName()));
+    }
+}
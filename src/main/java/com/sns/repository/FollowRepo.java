@@ -0,0 +1,43 @@
+package com.sns.repository;
+
+import com.sns.domain.entity.user.Follow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+
+public interface FollowRepo extends JpaRepository<Follow, Long> {
+
+    // 두 사용자 조회 + insert를 한 문장으로. 0이면 follower가 없음, 이미 팔로우 중이면 unique 위반
+    @Modifying
+    @Query(value = "insert into follow_entity (follower_id, followee_id, created_at) " +
+            "select fr.id, fe.id, :createdAt from user_entity fr, user_entity fe " +
+            "where fr.user_name = :follower and fe.user_name = :followee", nativeQuery = true)
+    int insertByUserNames(@Param("follower") String follower, @Param("followee") String followee,
+                          @Param("createdAt") LocalDateTime createdAt);
+
+    // 0이면 팔로우 중이 아님
+    @Modifying
+    @Query("delete from Follow f " +
+            "where f.follower.id = (select u.id from User u where u.userName = :follower) " +
+            "and f.followee.id = (select u.id from User u where u.userName = :followee)")
+    int deleteByUserNames(@Param("follower") String follower, @Param("followee") String followee);
+
+    // fan-out 대상 - 팔로워 수만큼 읽으므로 stream으로 흘려보냄 (트랜잭션 안에서 쓰고 close)
+    @QueryHints(@QueryHint(name = FETCH_SIZE, value = "1000"))
+    @Query("select fr.userName from Follow f join f.follower fr join f.followee fe where fe.userName = :followee")
+    Stream<String> streamFollowerNames(@Param("followee") String followee);
+
+    // 내가 팔로우하는 계정 중 팔로워가 threshold 이상이라 fan-out 되지 않는 계정
+    @Query("select fe.userName from Follow f join f.follower fr join f.followee fe " +
+            "where fr.userName = :follower and fe.followerCount >= :threshold")
+    List<String> findPopularFolloweeNames(@Param("follower") String follower, @Param("threshold") long threshold);
+}
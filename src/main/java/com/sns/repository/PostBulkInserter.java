@@ -0,0 +1,75 @@
+package com.sns.repository;
+
+import com.sns.domain.dto.post.PostCreateReq;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 등록용 JDBC batch insert.
+ * Post의 id가 IDENTITY라서 Hibernate는 insert를 batch로 묶지 못하므로, JdbcTemplate으로 직접 묶어서 보내고 생성된 id를 돌려받습니다.
+ * (MySQL은 rewriteBatchedStatements=true 일 때 multi-row insert 한 번으로 전송)
+ */
+@Repository
+public class PostBulkInserter {
+
+    // like_count는 DB 기본값(0)
+    private static final String INSERT_SQL =
+            "insert into post_entity (title, body, created_at, last_modified_at, user_id) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public PostBulkInserter(JdbcTemplate jdbcTemplate, @Value("${post.bulk.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    // 현재 트랜잭션의 커넥션으로 실행됨 - 반환되는 id는 posts 순서와 같음
+    public List<Long> insert(Long userId, List<PostCreateReq> posts, LocalDateTime now) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            List<Long> ids = new ArrayList<>(posts.size());
+            Timestamp timestamp = Timestamp.valueOf(now);
+
+            try (PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                int pending = 0;
+                for (PostCreateReq post : posts) {
+                    ps.setString(1, post.getTitle());
+                    ps.setString(2, post.getBody());
+                    ps.setTimestamp(3, timestamp);
+                    ps.setTimestamp(4, timestamp);
+                    ps.setLong(5, userId);
+                    ps.addBatch();
+
+                    if (++pending == batchSize) {
+                        executeBatch(ps, ids);
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    executeBatch(ps, ids);
+                }
+            }
+            return ids;
+        });
+    }
+
+    private void executeBatch(PreparedStatement ps, List<Long> ids) throws SQLException {
+        ps.executeBatch();
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids.add(keys.getLong(1));
+            }
+        }
+    }
+}
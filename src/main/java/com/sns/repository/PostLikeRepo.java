@@ -0,0 +1,28 @@
+package com.sns.repository;
+
+import com.sns.domain.entity.post.PostLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface PostLikeRepo extends JpaRepository<PostLike, Long> {
+
+    // 작성자 조회 + insert를 한 문장으로. 0이면 사용자가 없음, 이미 눌렀거나 포스트가 없으면 제약 조건 위반
+    @Transactional
+    @Modifying
+    @Query(value = "insert into post_like_entity (post_id, user_id, created_at) " +
+            "select :postId, u.id, :createdAt from user_entity u where u.user_name = :userName", nativeQuery = true)
+    int insertByUserName(@Param("postId") Long postId, @Param("userName") String userName,
+                         @Param("createdAt") LocalDateTime createdAt);
+
+    // 0이면 누른 적이 없음
+    @Transactional
+    @Modifying
+    @Query("delete from PostLike l " +
+            "where l.post.id = :postId and l.user.id = (select u.id from User u where u.userName = :userName)")
+    int deleteByPostIdAndUserName(@Param("postId") Long postId, @Param("userName") String userName);
+}
@@ -1,7 +1,136 @@
 package com.sns.repository;
 
+import com.sns.domain.dto.post.PostDetailView;
+import com.sns.domain.dto.post.PostFeedStamp;
+import com.sns.domain.dto.post.PostVersionStamp;
+import com.sns.domain.dto.post.PostFeedView;
+import com.sns.domain.dto.post.PostSearchView;
 import com.sns.domain.entity.post.Post;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
 
 public interface PostRepo extends JpaRepository<Post, Long> {
+
+    // 피드 - Post, User를 한 번에 join 해서 필요한 컬럼만 조회 (N+1 없음)
+    @Query(value = "select p.id as id, p.title as title, p.createdAt as createdAt, u.userName as userName, p.likeCount as likeCount " +
+            "from Post p join p.user u",
+            countQuery = "select count(p) from Post p")
+    Page<PostFeedView> findFeed(Pageable pageable);
+
+    // 커서 모드 첫 페이지 - count 쿼리 없이 size + 1 건만 조회
+    // left join - 작성자 테이블부터 읽는 계획을 막고 Post를 (created_at desc, id desc) 인덱스 순서대로 읽음 (포스트에는 항상 작성자가 있음)
+    @Query("select p.id as id, p.title as title, p.createdAt as createdAt, u.userName as userName, p.likeCount as likeCount " +
+            "from Post p left join p.user u " +
+            "order by p.createdAt desc, p.id desc")
+    Slice<PostFeedView> findLatest(Pageable pageable);
+
+    // (createdAt, id) 보다 오래된 포스트 - OFFSET 없이 인덱스 범위 탐색
+    // createdAt <= 조건을 따로 두어서 인덱스에서 커서 위치부터 바로 읽도록 (OR만 있으면 범위로 쓰지 못하고 처음부터 훑을 수 있음)
+    @Query("select p.id as id, p.title as title, p.createdAt as createdAt, u.userName as userName, p.likeCount as likeCount " +
+            "from Post p left join p.user u " +
+            "where p.createdAt <= :createdAt and (p.createdAt < :createdAt or p.id < :id) " +
+            "order by p.createdAt desc, p.id desc")
+    Slice<PostFeedView> findOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 작성자별 피드 - (user_id, created_at desc, id desc) 인덱스 순서 그대로 limit만큼만 읽음 (V6__post_feed_indexes.sql)
+    // user_id는 subquery 한 번으로 구해서 Post부터 읽히도록, order by도 인덱스 컬럼 순서와 같게 (user_id는 하나라 결과 순서는 같음)
+    @Query("select p.id as id, p.title as title, p.createdAt as createdAt, u.userName as userName, p.likeCount as likeCount " +
+            "from Post p join p.user u " +
+            "where p.user.id = (select author.id from User author where author.userName = :userName) " +
+            "order by p.user.id, p.createdAt desc, p.id desc")
+    Slice<PostFeedView> findLatestByUserName(@Param("userName") String userName, Pageable pageable);
+
+    @Query("select p.id as id, p.title as title, p.createdAt as createdAt, u.userName as userName, p.likeCount as likeCount " +
+            "from Post p join p.user u " +
+            "where p.user.id = (select author.id from User author where author.userName = :userName) " +
+            "and p.createdAt <= :createdAt " +
+            "and (p.createdAt < :createdAt or p.id < :id) " +
+            "order by p.user.id, p.createdAt desc, p.id desc")
+    Slice<PostFeedView> findOlderThanByUserName(@Param("userName") String userName, @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id, Pageable pageable);
+
+    @Query("select p.id as id, p.title as title, p.body as body, u.userName as userName, p.likeCount as likeCount, " +
+            "p.createdAt as createdAt, p.lastModifiedAt as lastModifiedAt " +
+            "from Post p join p.user u where p.id = :id")
+    Optional<PostDetailView> findDetailById(@Param("id") Long id);
+
+    // 여러 건 조회 - 작성자까지 한 번의 join으로 (순서는 호출하는 쪽에서 맞춤)
+    @Query("select p.id as id, p.title as title, p.body as body, u.userName as userName, p.likeCount as likeCount, " +
+            "p.createdAt as createdAt, p.lastModifiedAt as lastModifiedAt " +
+            "from Post p join p.user u where p.id in :ids")
+    List<PostDetailView> findDetailByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 조건부 GET용 - 엔티티를 올리지 않고 시각과 좋아요 수만 조회 (bulk insert 전의 행은 lastModifiedAt이 없을 수 있음)
+    @Query("select coalesce(p.lastModifiedAt, p.createdAt) as lastModifiedAt, p.likeCount as likeCount from Post p where p.id = :id")
+    Optional<PostVersionStamp> findVersionStampById(@Param("id") Long id);
+
+    // 피드 버전 - max는 인덱스(PK, idx_post_last_modified_at)로 바로 찾고, 삭제 / 좋아요 반영은 feed_version 카운터로
+    // 전체 행을 집계(count / sum)하지 않음 - 304 확인이 페이지 조회보다 비싸지지 않도록
+    @Query(value = "select max(p.id) as maxId, max(p.last_modified_at) as lastModifiedAt, " +
+            "(select f.version from feed_version f where f.id = 1) as version from post_entity p", nativeQuery = true)
+    PostFeedStamp findFeedStamp();
+
+    // 삭제처럼 max(id) / max(last_modified_at)에 드러나지 않는 변경 - 트랜잭션 마지막에 호출 (lock 순서: post 행 → feed_version)
+    @Modifying
+    @Query(value = "update feed_version set version = version + 1 where id = 1", nativeQuery = true)
+    int incrementFeedVersion();
+
+    // 작성자 확인 + 수정을 UPDATE 한 번으로. 0이면 포스트가 없거나 작성자가 아님
+    @Modifying
+    @Query("update Post p set p.title = :title, p.body = :body, p.lastModifiedAt = :lastModifiedAt " +
+            "where p.id = :id and p.user.id = (select u.id from User u where u.userName = :userName)")
+    int updateByIdAndUserName(@Param("id") Long id, @Param("userName") String userName,
+                              @Param("title") String title, @Param("body") String body,
+                              @Param("lastModifiedAt") LocalDateTime lastModifiedAt);
+
+    // 작성자 확인 + 삭제를 DELETE 한 번으로. 0이면 포스트가 없거나 작성자가 아님
+    @Modifying
+    @Query("delete from Post p " +
+            "where p.id = :id and p.user.id = (select u.id from User u where u.userName = :userName)")
+    int deleteByIdAndUserName(@Param("id") Long id, @Param("userName") String userName);
+
+    // 수정/삭제가 0건일 때만 원인 구분용으로 조회
+    @Query("select u.userName from Post p join p.user u where p.id = :id")
+    Optional<String> findUserNameById(@Param("id") Long id);
+
+    // 전체 export용 forward-only stream. 트랜잭션 안에서 쓰고 반드시 close 해야 함
+    @QueryHints({@QueryHint(name = FETCH_SIZE, value = "1000"), @QueryHint(name = READ_ONLY, value = "true")})
+    @Query("select p from Post p join fetch p.user order by p.id")
+    Stream<Post> streamAll();
+
+    // 검색 결과 id들을 한 번에 조회 (순서는 호출하는 쪽에서 맞춤)
+    @Query("select p.id as id, p.title as title, p.createdAt as createdAt, u.userName as userName, p.likeCount as likeCount " +
+            "from Post p join p.user u where p.id in :ids")
+    List<PostFeedView> findFeedByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 홈 타임라인 - 내 글과 팔로우한 계정의 글을 따로 읽어서 HomeTimeline에서 합침
+    // (둘을 or로 묶으면 (user_id, created_at, id) 인덱스를 못 타고 전체 포스트를 정렬)
+    @Query("select p.id from Post p join p.user u where u.userName = :userName order by p.createdAt desc, p.id desc")
+    List<Long> findIdsByUserName(@Param("userName") String userName, Pageable pageable);
+
+    @Query("select p.id from Post p where p.user.id in " +
+            "(select f.followee.id from Follow f where f.follower.userName = :userName) " +
+            "order by p.createdAt desc, p.id desc")
+    List<Long> findFolloweePostIds(@Param("userName") String userName, Pageable pageable);
+
+    // 시작 시 검색 색인용. 엔티티를 만들지 않고 id, title, body만 흘려보냄
+    @QueryHints(@QueryHint(name = FETCH_SIZE, value = "1000"))
+    @Query("select p.id as id, p.title as title, p.body as body from Post p order by p.id")
+    Stream<PostSearchView> streamSearchDocs();
 }
@@ -0,0 +1,39 @@
+package com.sns.repository;
+
+import com.sns.domain.entity.user.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+
+public interface RevokedTokenRepo extends JpaRepository<RevokedToken, Long> {
+
+    // Bloom filter가 "있을 수도 있음"이라고 할 때만 확인
+    boolean existsByTokenId(String tokenId);
+
+    @Query("select count(r) from RevokedToken r where r.tokenId is not null and r.expiresAt > :now")
+    long countActiveTokenIds(@Param("now") LocalDateTime now);
+
+    // Bloom filter를 다시 만들 때. 트랜잭션 안에서 쓰고 반드시 close 해야 함
+    @QueryHints(@QueryHint(name = FETCH_SIZE, value = "1000"))
+    @Query("select r.tokenId from RevokedToken r where r.tokenId is not null and r.expiresAt > :now")
+    Stream<String> streamActiveTokenIds(@Param("now") LocalDateTime now);
+
+    // 강제 로그아웃은 드물어서 전부 메모리에 올림
+    @Query("select r from RevokedToken r where r.issuedBefore is not null and r.expiresAt > :now")
+    List<RevokedToken> findActiveUserCutoffs(@Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
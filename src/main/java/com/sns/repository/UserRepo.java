@@ -2,9 +2,22 @@ package com.sns.repository;
 
 import com.sns.domain.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface UserRepo extends JpaRepository<User, Long> {
     Optional<User> findByUserName(String userName);
+
+    boolean existsByUserName(String userName);
+
+    @Query("select u.followerCount from User u where u.userName = :userName")
+    Optional<Long> findFollowerCountByUserName(@Param("userName") String userName);
+
+    // 0이면 사용자가 없음
+    @Modifying
+    @Query("update User u set u.followerCount = u.followerCount + :delta where u.userName = :userName")
+    int addFollowerCount(@Param("userName") String userName, @Param("delta") long delta);
 }
@@ -0,0 +1,157 @@
+package com.sns.search;
+
+import com.sns.domain.dto.post.PostSearchView;
+import com.sns.repository.PostRepo;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * 포스트 검색 색인.
+ * 시작한 뒤 별도 스레드에서 전체 포스트를 stream으로 한 번 읽어서 만들고, 이후에는 PostService / PostBulkService가 commit 후에 반영합니다.
+ * 다 만들기 전(isReady() == false)에도 검색은 되지만 아직 읽지 않은 포스트는 빠진 일부 결과입니다.
+ */
+@Component
+@Slf4j
+public class PostSearchIndex implements MeterBinder, DisposableBean {
+
+    private final SearchIndex index = new SearchIndex();
+    private final PostRepo postRepo;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // 전체 색인 도중 삭제된 포스트 - stream에서 옛날 값을 읽어도 다시 넣지 않도록
+    private final Set<Long> removedWhileBuilding = ConcurrentHashMap.newKeySet();
+    private volatile boolean building;
+    private volatile boolean ready;
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "search-index-build");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PostSearchIndex(PostRepo postRepo, PlatformTransactionManager transactionManager) {
+        this.postRepo = postRepo;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 시작을 막지 않도록 별도 스레드에서 (포스트가 많으면 수십 초)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        building = true;
+        builder.execute(() -> {
+            try {
+                build();
+            } catch (RuntimeException e) {
+                log.error("검색 색인 실패 - 이후 등록/수정된 포스트만 검색됩니다.", e);
+            }
+        });
+    }
+
+    void build() {
+        long start = System.nanoTime();
+        building = true;
+        try {
+            int indexed = readOnlyTransaction.execute(status -> {
+                int count = 0;
+                try (Stream<PostSearchView> docs = postRepo.streamSearchDocs()) {
+                    for (PostSearchView doc : (Iterable<PostSearchView>) docs::iterator) {
+                        // 도중에 수정/등록된 포스트는 이미 최신 값으로 들어가 있으므로 건너뜀
+                        if (!removedWhileBuilding.contains(doc.getId())
+                                && index.indexIfAbsent(doc.getId(), doc.getTitle(), doc.getBody())) {
+                            count++;
+                        }
+                    }
+                }
+                return count;
+            });
+            ready = true;
+            log.info("검색 색인 완료: {}건, {}ms", indexed, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            building = false;
+            removedWhileBuilding.clear();
+        }
+    }
+
+    public List<SearchHit> search(String query, SearchHit after, int limit) {
+        return index.search(query, after, limit);
+    }
+
+    // 트랜잭션 안이면 commit 된 뒤에, 아니면 바로 반영 (rollback 된 변경은 색인에 들어가지 않음)
+    public void indexAfterCommit(Long postId, String title, String body) {
+        afterCommit(() -> index.index(postId, title, body));
+    }
+
+    public void removeAfterCommit(Long postId) {
+        afterCommit(() -> {
+            if (building) {
+                removedWhileBuilding.add(postId);
+            }
+            index.remove(postId);
+        });
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    // 시작 시 전체 색인이 끝났는지 - 끝나기 전의 검색 결과는 일부
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 테스트 / 운영용 - 전체 색인이 끝날 때까지 대기
+    public boolean awaitReady(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!ready) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("search.index.docs", index, SearchIndex::size).register(registry);
+        Gauge.builder("search.index.terms", index, SearchIndex::termCount).register(registry);
+        Gauge.builder("search.index.posting.bytes", index, SearchIndex::postingBytes).register(registry);
+        Gauge.builder("search.index.ready", this, searchIndex -> searchIndex.ready ? 1 : 0).register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        builder.shutdownNow();
+    }
+}
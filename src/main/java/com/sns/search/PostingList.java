@@ -0,0 +1,92 @@
+package com.sns.search;
+
+import java.util.Arrays;
+
+/**
+ * 한 단어의 posting list. (문서 번호 차이, 빈도)를 varint로 이어붙여서 문서 하나당 보통 2바이트만 씁니다.
+ * 문서 번호는 항상 증가하는 순서로만 추가됩니다 (수정은 삭제 + 새 번호로 추가).
+ */
+final class PostingList {
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int lastDoc = -1;
+
+    void add(int doc, int freq) {
+        writeVInt(doc - lastDoc);
+        writeVInt(freq);
+        lastDoc = doc;
+    }
+
+    // 문서 번호를 newDocs로 바꾼 새 posting list (-1인 삭제된 문서는 빠짐, 순서는 그대로여야 함)
+    PostingList renumber(int[] newDocs) {
+        PostingList renumbered = new PostingList();
+        Reader reader = reader();
+        while (reader.next()) {
+            int newDoc = newDocs[reader.doc()];
+            if (newDoc >= 0) {
+                renumbered.add(newDoc, reader.freq());
+            }
+        }
+        return renumbered;
+    }
+
+    Reader reader() {
+        return new Reader();
+    }
+
+    boolean isEmpty() {
+        return length == 0;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    private void writeVInt(int value) {
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    final class Reader {
+
+        private int position;
+        private int doc = -1;
+        private int freq;
+
+        boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            doc += readVInt();
+            freq = readVInt();
+            return true;
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int freq() {
+            return freq;
+        }
+
+        private int readVInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
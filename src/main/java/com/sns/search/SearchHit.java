@@ -0,0 +1,12 @@
+package com.sns.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchHit {
+
+    private float score;
+    private long postId;
+}
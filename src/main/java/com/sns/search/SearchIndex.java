@@ -0,0 +1,345 @@
+package com.sns.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 포스트 title/body 역색인 (BM25 랭킹).
+ * - 포스트마다 내부 문서 번호(doc)를 증가하는 순서로 발급하고, 단어별 posting list는 varint로 압축해서 저장
+ * - 수정은 기존 doc 삭제 + 새 doc 추가, 삭제는 live 비트만 끄고 단어별 문서 수(df)를 빼줌
+ * - 삭제(수정 포함)된 doc이 살아있는 doc보다 많아지면 살아있는 doc과 단어에 번호를 다시 매겨서 정리 (배열과 posting list가 계속 커지지 않음)
+ * 읽기(검색)는 동시에, 쓰기(색인/삭제)는 하나씩 처리합니다.
+ */
+public class SearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 2; // 제목에 나온 단어는 본문보다 2배로 계산
+    private static final int COMPACT_MIN_DELETED = 1024;
+
+    // 정렬 순서: 점수 높은 순, 같으면 postId 큰(최신) 순
+    private static final Comparator<SearchHit> RANKING = Comparator.comparingDouble(SearchHit::getScore)
+            .thenComparingLong(SearchHit::getPostId)
+            .reversed();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<PostingList> postings = new ArrayList<>();
+    private int[] docFreqs = new int[16];
+
+    private final Map<Long, Integer> docByPostId = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private long[] postIds = new long[16];
+    private int[] docLengths = new int[16];
+    private int[][] docTerms = new int[16][];
+    private int maxDoc;
+    private int liveDocs;
+    private int deletedDocs;
+    private long totalLength;
+
+    // 새로 색인 (이미 있으면 교체)
+    public void index(long postId, String title, String body) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            addInternal(postId, title, body);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 이미 색인된 포스트는 건드리지 않음 (시작 시 전체 색인 도중 들어온 수정이 옛날 값으로 덮이지 않도록)
+    public boolean indexIfAbsent(long postId, String title, String body) {
+        lock.writeLock().lock();
+        try {
+            if (docByPostId.containsKey(postId)) {
+                return false;
+            }
+            addInternal(postId, title, body);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * query의 단어가 하나라도 들어간 포스트를 BM25 점수 순으로 최대 limit개 돌려줍니다.
+     * after가 있으면 그 다음 순위부터 (커서 페이징).
+     */
+    public List<SearchHit> search(String query, SearchHit after, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return List.of();
+            }
+
+            float avgDocLength = (float) totalLength / liveDocs;
+
+            // 단어별 posting list는 doc 순서로 정렬되어 있으므로 한 번에 병합하면서 문서 하나씩 점수 계산 (doc 수만큼의 누적 배열 불필요)
+            PostingList.Reader[] readers = new PostingList.Reader[terms.size()];
+            float[] idfs = new float[terms.size()];
+            int readerCount = 0;
+            for (String term : terms) {
+                Integer termId = termIds.get(term);
+                if (termId == null || docFreqs[termId] == 0) {
+                    continue;
+                }
+                PostingList.Reader reader = postings.get(termId).reader();
+                if (reader.next()) {
+                    int docFreq = docFreqs[termId];
+                    readers[readerCount] = reader;
+                    idfs[readerCount++] = (float) Math.log(1 + (liveDocs - docFreq + 0.5) / (docFreq + 0.5));
+                }
+            }
+
+            // 가장 낮은 순위가 맨 위에 오는 heap에 limit개만 유지
+            PriorityQueue<SearchHit> heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            while (readerCount > 0) {
+                int doc = Integer.MAX_VALUE;
+                for (int i = 0; i < readerCount; i++) {
+                    doc = Math.min(doc, readers[i].doc());
+                }
+
+                float score = 0;
+                float norm = K1 * (1 - B + B * docLengths[doc] / avgDocLength);
+                for (int i = readerCount - 1; i >= 0; i--) {
+                    PostingList.Reader reader = readers[i];
+                    if (reader.doc() != doc) {
+                        continue;
+                    }
+                    float freq = reader.freq();
+                    score += idfs[i] * freq * (K1 + 1) / (freq + norm);
+                    if (!reader.next()) {
+                        readerCount--;
+                        readers[i] = readers[readerCount];
+                        idfs[i] = idfs[readerCount];
+                    }
+                }
+
+                // 커서보다 뒤 순위이고, heap의 꼴찌보다 앞 순위일 때만
+                if (live.get(doc) && (after == null || compare(score, postIds[doc], after) < 0)
+                        && (heap.size() < limit || compare(score, postIds[doc], heap.peek()) > 0)) {
+                    // heap에 들어갈 때만 객체 생성
+                    if (heap.size() == limit) {
+                        heap.poll();
+                    }
+                    heap.add(new SearchHit(score, postIds[doc]));
+                }
+            }
+
+            List<SearchHit> hits = new ArrayList<>(heap);
+            hits.sort(RANKING);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return termIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 지금까지 발급한 doc 번호 수 (정리되면 살아있는 doc 수로 줄어듦)
+    int maxDoc() {
+        lock.readLock().lock();
+        try {
+            return maxDoc;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long postingBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (PostingList postingList : postings) {
+                bytes += postingList.sizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // (score, postId)가 hit보다 앞 순위면 양수, 뒤 순위면 음수
+    private static int compare(float score, long postId, SearchHit hit) {
+        int compare = Float.compare(score, hit.getScore());
+        return compare != 0 ? compare : Long.compare(postId, hit.getPostId());
+    }
+
+    private void addInternal(long postId, String title, String body) {
+        Map<String, int[]> freqs = new HashMap<>();
+        int length = countTerms(Tokenizer.tokenize(title), TITLE_WEIGHT, freqs)
+                + countTerms(Tokenizer.tokenize(body), 1, freqs);
+
+        int doc = maxDoc++;
+        ensureDocCapacity(doc + 1);
+
+        int[] terms = new int[freqs.size()];
+        int i = 0;
+        for (Map.Entry<String, int[]> entry : freqs.entrySet()) {
+            int termId = termId(entry.getKey());
+            postings.get(termId).add(doc, entry.getValue()[0]);
+            docFreqs[termId]++;
+            terms[i++] = termId;
+        }
+
+        postIds[doc] = postId;
+        docLengths[doc] = length;
+        docTerms[doc] = terms;
+        live.set(doc);
+        docByPostId.put(postId, doc);
+        liveDocs++;
+        totalLength += length;
+    }
+
+    private void removeInternal(long postId) {
+        Integer doc = docByPostId.remove(postId);
+        if (doc == null) {
+            return;
+        }
+        for (int termId : docTerms[doc]) {
+            docFreqs[termId]--;
+        }
+        docTerms[doc] = null;
+        live.clear(doc);
+        liveDocs--;
+        deletedDocs++;
+        totalLength -= docLengths[doc];
+    }
+
+    private void compactIfNeeded() {
+        if (deletedDocs >= COMPACT_MIN_DELETED && deletedDocs > liveDocs) {
+            compact();
+        }
+    }
+
+    // 살아있는 doc을 순서대로 0부터 다시 번호 매기고, 더 이상 어느 doc에도 없는 단어는 지움
+    private void compact() {
+        int[] newDocs = new int[maxDoc];
+        int docCount = 0;
+        for (int doc = 0; doc < maxDoc; doc++) {
+            if (!live.get(doc)) {
+                newDocs[doc] = -1;
+                continue;
+            }
+            newDocs[doc] = docCount;
+            postIds[docCount] = postIds[doc];
+            docLengths[docCount] = docLengths[doc];
+            docTerms[docCount] = docTerms[doc];
+            docCount++;
+        }
+
+        int[] newTermIds = new int[postings.size()];
+        List<PostingList> newPostings = new ArrayList<>();
+        int[] newDocFreqs = new int[capacity(termIds.size())];
+        for (int termId = 0; termId < postings.size(); termId++) {
+            if (docFreqs[termId] == 0) {
+                newTermIds[termId] = -1;
+                continue;
+            }
+            newTermIds[termId] = newPostings.size();
+            newDocFreqs[newPostings.size()] = docFreqs[termId];
+            newPostings.add(postings.get(termId).renumber(newDocs));
+        }
+        termIds.values().removeIf(termId -> newTermIds[termId] < 0);
+        termIds.replaceAll((term, termId) -> newTermIds[termId]);
+        postings.clear();
+        postings.addAll(newPostings);
+        docFreqs = Arrays.copyOf(newDocFreqs, capacity(postings.size()));
+        for (int doc = 0; doc < docCount; doc++) {
+            int[] terms = docTerms[doc];
+            for (int i = 0; i < terms.length; i++) {
+                terms[i] = newTermIds[terms[i]];
+            }
+        }
+
+        docByPostId.replaceAll((postId, doc) -> newDocs[doc]);
+        live.clear();
+        live.set(0, docCount);
+        maxDoc = docCount;
+        deletedDocs = 0;
+
+        // 배열도 살아있는 doc 수에 맞춰 줄임
+        int length = capacity(docCount);
+        postIds = Arrays.copyOf(postIds, length);
+        docLengths = Arrays.copyOf(docLengths, length);
+        docTerms = Arrays.copyOf(docTerms, length);
+    }
+
+    // size보다 큰 2의 거듭제곱 (최소 16)
+    private static int capacity(int size) {
+        return Math.max(16, Integer.highestOneBit(Math.max(size, 1)) << 1);
+    }
+
+    private int countTerms(List<String> tokens, int weight, Map<String, int[]> freqs) {
+        for (String token : tokens) {
+            freqs.computeIfAbsent(token, t -> new int[1])[0] += weight;
+        }
+        return tokens.size() * weight;
+    }
+
+    private int termId(String term) {
+        Integer termId = termIds.get(term);
+        if (termId == null) {
+            termId = postings.size();
+            termIds.put(term, termId);
+            postings.add(new PostingList());
+            if (termId >= docFreqs.length) {
+                docFreqs = Arrays.copyOf(docFreqs, docFreqs.length * 2);
+            }
+        }
+        return termId;
+    }
+
+    private void ensureDocCapacity(int capacity) {
+        if (capacity > postIds.length) {
+            int newLength = Math.max(postIds.length * 2, capacity);
+            postIds = Arrays.copyOf(postIds, newLength);
+            docLengths = Arrays.copyOf(docLengths, newLength);
+            docTerms = Arrays.copyOf(docTerms, newLength);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.sns.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저. 글자/숫자가 이어진 구간을 하나의 토큰으로 자릅니다.
+ * - 영어/숫자: 소문자로 바꿔서 단어 그대로
+ * - 한글: 조사/어미가 붙어도 찾을 수 있도록 2글자씩(bigram) 자름 (한 글자면 그대로)
+ * 색인과 질의에 같은 규칙을 쓰기 때문에 "서울" 로 "서울에서" 를 찾을 수 있습니다.
+ */
+public final class Tokenizer {
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            int codePoint = text.codePointAt(i);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                i += Character.charCount(codePoint);
+                continue;
+            }
+
+            boolean hangul = isHangul(codePoint);
+            int start = i;
+            while (i < length) {
+                codePoint = text.codePointAt(i);
+                if (!Character.isLetterOrDigit(codePoint) || isHangul(codePoint) != hangul) {
+                    break;
+                }
+                i += Character.charCount(codePoint);
+            }
+
+            if (hangul) {
+                addBigrams(text, start, i, tokens);
+            } else {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+            }
+        }
+        return tokens;
+    }
+
+    // 한글 음절/자모는 모두 BMP라서 char 단위로 잘라도 안전
+    private static void addBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,88 @@
+package com.sns.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 key용 Bloom filter. mightContain()이 false면 확실히 없고, true면 fpp 확률로 잘못 true일 수 있습니다.
+ * - bit 배열은 AtomicLongArray라 put()과 mightContain()을 lock 없이 동시에 호출해도 됨 (지우기는 없음)
+ * - 해시는 64-bit FNV-1a 하나에서 double hashing으로 k개를 만듦 (h1 + i * h2)
+ * key 하나에 약 1.2 byte (fpp 1% 기준)라 HashSet에 id 문자열을 들고 있는 것보다 훨씬 작습니다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        int words = (int) Math.min((bitCount + 63) / 64, Integer.MAX_VALUE - 8);
+        this.bits = new AtomicLongArray(Math.max(words, 1));
+        this.bitCount = this.bits.length() * 64L;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * @param expectedInsertions 들어갈 key 수 (넘게 넣으면 fpp가 올라감)
+     * @param fpp                원하는 false positive 확률 (0 ~ 1)
+     */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        long n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(m, k);
+    }
+
+    public void put(String key) {
+        long hash1 = hash(key);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash1 = hash(key);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 메모리 사용량 (byte)
+    public long sizeInBytes() {
+        return bits.length() * 8L;
+    }
+
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // 두 번째 해시 (murmur3 finalizer), 홀수로 만들어서 모든 위치를 돌 수 있게
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash | 1;
+    }
+}
@@ -0,0 +1,127 @@
+package com.sns.security;
+
+import com.sns.utils.VerifiedClaims;
+import com.sns.utils.VerifiedClaimsCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.impl.TextCodec;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JWT 서명 / 검증 - 시작할 때 한 번 만들어서 계속 씁니다.
+ * JwtUtil은 호출마다 parser를 새로 만들고 String key를 decode 하지만, 여기서는 key(SecretKeySpec)와 parser를 미리 만들어 둠.
+ * - 서명: 가장 최신 key(목록의 맨 앞) + kid 헤더
+ * - 검증: 토큰의 kid 헤더로 key를 고름. kid가 없는 토큰(예전 토큰)은 legacy secret으로
+ * key 회전은 새 key를 맨 앞에 추가해서 배포하고, 예전 key로 발급된 토큰이 모두 만료(jwt.token.expire-time)된 뒤 목록에서 빼면 됩니다.
+ */
+public class JwtKeyRing {
+
+    private static final SignatureAlgorithm ALGORITHM = SignatureAlgorithm.HS256;
+
+    private final Map<String, Key> keys = new LinkedHashMap<>();
+    private final Key legacyKey;
+    private final String signingKeyId;
+    private final Key signingKey;
+    // 설정이 끝난 parser는 상태를 바꾸지 않아서 여러 스레드에서 같이 써도 됨
+    private final JwtParser parser;
+    private final VerifiedClaimsCache verifiedClaims = new VerifiedClaimsCache(10_000);
+
+    /**
+     * @param legacySecret kid 헤더가 없는 토큰의 검증 key (없으면 null). secrets가 비어있으면 서명에도 사용
+     * @param secrets      kid → secret, 최신 key부터
+     */
+    public JwtKeyRing(String legacySecret, Map<String, String> secrets) {
+        secrets.forEach((id, secret) -> {
+            if (id == null || id.isBlank() || secret == null || secret.isBlank()) {
+                throw new IllegalStateException("jwt.token.keys의 id / secret이 비어있습니다.");
+            }
+            keys.put(id, toKey(secret));
+        });
+        this.legacyKey = legacySecret == null || legacySecret.isBlank() ? null : toKey(legacySecret);
+
+        if (!keys.isEmpty()) {
+            Map.Entry<String, Key> newest = keys.entrySet().iterator().next();
+            this.signingKeyId = newest.getKey();
+            this.signingKey = newest.getValue();
+        } else if (legacyKey != null) {
+            this.signingKeyId = null;
+            this.signingKey = legacyKey;
+        } else {
+            throw new IllegalStateException("jwt.token.secret 또는 jwt.token.keys 중 하나는 있어야 합니다.");
+        }
+
+        this.parser = Jwts.parser().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+            // jjwt 0.9.1의 SigningKeyResolver가 raw JwsHeader로 선언돼 있어서 override는 raw로 두고 바로 JwsHeader<?>로 넘김
+            @Override
+            @SuppressWarnings("rawtypes")
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                return resolve((JwsHeader<?>) header);
+            }
+        });
+    }
+
+    // jjwt에 String key를 넘겼을 때와 같은 방식(base64 decode)으로 만들어야 기존 토큰이 그대로 검증됨
+    private static Key toKey(String secret) {
+        return new SecretKeySpec(TextCodec.BASE64.decode(secret), ALGORITHM.getJcaName());
+    }
+
+    private Key resolve(JwsHeader<?> header) {
+        // 서명은 HS256만 - 헤더의 alg를 그대로 믿지 않음
+        if (!ALGORITHM.getValue().equals(header.getAlgorithm())) {
+            throw new SignatureException("지원하지 않는 alg: " + header.getAlgorithm());
+        }
+        String keyId = header.getKeyId();
+        Key key = keyId == null ? legacyKey : keys.get(keyId);
+        if (key == null) {
+            throw new SignatureException(keyId == null ? "kid가 없는 토큰" : "알 수 없는 kid: " + keyId);
+        }
+        return key;
+    }
+
+    public String createToken(String userName, Duration expireTime) {
+        Claims claims = Jwts.claims();
+        claims.put("userName", userName);
+
+        long now = System.currentTimeMillis();
+        JwtBuilder builder = Jwts.builder()
+                .setClaims(claims)
+                .setId(UUID.randomUUID().toString()) // jti - 로그아웃 시 이 토큰만 폐기 (TokenRevocationList)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expireTime.toMillis()));
+        if (signingKeyId != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKeyId);
+        }
+        return builder.signWith(ALGORITHM, signingKey).compact();
+    }
+
+    /**
+     * 서명/만료를 검증해서 claim을 돌려줍니다. 같은 토큰이 다시 오면 서명 검증 없이 캐시에서 꺼냅니다.
+     *
+     * @throws io.jsonwebtoken.JwtException 서명이 틀렸거나, 모르는 kid, 형식이 잘못되었거나, 만료된 토큰
+     */
+    public VerifiedClaims verify(String token) {
+        return verifiedClaims.get(VerifiedClaimsCache.digest(token), () -> parse(token));
+    }
+
+    // 캐시 없이 매번 서명 검증
+    public VerifiedClaims parse(String token) {
+        return VerifiedClaims.of(parser.parseClaimsJws(token).getBody());
+    }
+
+    public String getSigningKeyId() {
+        return signingKeyId;
+    }
+}
@@ -0,0 +1,241 @@
+package com.sns.security;
+
+import com.sns.domain.entity.user.RevokedToken;
+import com.sns.repository.RevokedTokenRepo;
+import com.sns.utils.VerifiedClaims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 폐기된 토큰 목록 (로그아웃 / 강제 로그아웃). DB(revoked_token_entity)에 저장하고, JwtFilter는 메모리에서만 확인합니다.
+ * - 로그아웃한 토큰의 jti는 Bloom filter에 넣어둠. 대부분의 요청(폐기되지 않은 토큰)은 filter에서 "없음"으로 끝나서 I/O 없음
+ *   filter가 "있을 수도 있음"이라고 할 때만 DB에서 확인 (폐기된 토큰 + fpp 비율의 오탐)
+ * - 강제 로그아웃(userName + 발급 시각 기준)은 드물어서 map으로 정확하게 들고 있음
+ * - refresh-interval마다 만료된 행을 지우고 DB에서 filter를 다시 만듦. 다른 인스턴스에서 폐기한 토큰은 그 사이 최대 refresh-interval 동안 통과할 수 있음
+ * 행은 원래 토큰이 만료되는 시각(강제 로그아웃은 그 시각 + 토큰 유효기간)이 지나면 지웁니다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements SmartInitializingSingleton, MeterBinder, DisposableBean {
+
+    private static final String TOKEN_KEY = "t:";
+
+    private final RevokedTokenRepo revokedTokenRepo;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration tokenLifetime;
+    private final Duration refreshInterval;
+    private final long minExpectedInsertions;
+    private final double fpp;
+    private final ScheduledExecutorService refresher;
+
+    private final Object lock = new Object();
+    private volatile Snapshot current;
+    // refresh 중에 이 인스턴스에서 폐기된 것 - DB에서 읽은 시점에 따라 새 snapshot에서 빠질 수 있어서 따로 모았다가 넣음 (lock 안에서만 접근)
+    private Snapshot recent;
+
+    private final LongAdder filterPositives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder failedRefreshes = new LongAdder();
+
+    public TokenRevocationList(RevokedTokenRepo revokedTokenRepo, PlatformTransactionManager transactionManager,
+                               @Value("${jwt.token.expire-time:1h}") Duration tokenLifetime,
+                               @Value("${jwt.revocation.refresh-interval:10s}") Duration refreshInterval,
+                               @Value("${jwt.revocation.expected-insertions:100000}") long minExpectedInsertions,
+                               @Value("${jwt.revocation.fpp:0.01}") double fpp) {
+        this.revokedTokenRepo = revokedTokenRepo;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.tokenLifetime = tokenLifetime;
+        this.refreshInterval = refreshInterval;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.fpp = fpp;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "token-revocation-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 웹 서버가 요청을 받기 전에 한 번 만들어 둠 (비어있는 filter로 폐기된 토큰이 통과하지 않도록)
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+        long interval = refreshInterval.toMillis();
+        refresher.scheduleWithFixedDelay(this::refreshQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * JwtFilter에서 서명/만료 검증이 끝난 토큰마다 호출. 폐기되지 않은 토큰은 메모리만 확인합니다.
+     */
+    public boolean isRevoked(VerifiedClaims claims) {
+        Snapshot snapshot = current;
+
+        Instant cutoff = snapshot.userCutoffs.get(claims.getUserName());
+        // iat는 초 단위
+        if (cutoff != null && (claims.getIssuedAt() == null || claims.getIssuedAt().getEpochSecond() <= cutoff.getEpochSecond())) {
+            return true;
+        }
+        if (claims.getTokenId() == null || !snapshot.tokenIds.mightContain(TOKEN_KEY + claims.getTokenId())) {
+            return false;
+        }
+
+        filterPositives.increment();
+        boolean revoked = revokedTokenRepo.existsByTokenId(claims.getTokenId());
+        if (!revoked) {
+            falsePositives.increment();
+        }
+        return revoked;
+    }
+
+    // 로그아웃 - 이 토큰만 폐기 (jti가 없는 예전 토큰은 그 사용자의 토큰 전부)
+    public void revokeToken(VerifiedClaims claims) {
+        if (claims.getTokenId() == null) {
+            revokeUser(claims.getUserName());
+            return;
+        }
+        try {
+            revokedTokenRepo.save(RevokedToken.builder()
+                    .tokenId(claims.getTokenId())
+                    .userName(claims.getUserName())
+                    .expiresAt(toLocal(claims.getExpiration()))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 이미 폐기된 토큰 (동시에 두 번 로그아웃)
+        }
+        synchronized (lock) {
+            current.tokenIds.put(TOKEN_KEY + claims.getTokenId());
+            if (recent != null) {
+                recent.recentTokenIds.add(claims.getTokenId());
+            }
+        }
+    }
+
+    /**
+     * 강제 로그아웃 - 지금까지 발급된 userName의 토큰을 전부 폐기.
+     * 토큰의 발급 시각(iat)은 초 단위라서 같은 초에 새로 발급된 토큰도 폐기됩니다 (다시 로그인하면 됨).
+     */
+    public void revokeUser(String userName) {
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepo.save(RevokedToken.builder()
+                .userName(userName)
+                .issuedBefore(toLocal(cutoff))
+                .expiresAt(toLocal(cutoff.plus(tokenLifetime).plusSeconds(1)))
+                .createdAt(now)
+                .build());
+        synchronized (lock) {
+            current.userCutoffs.merge(userName, cutoff, TokenRevocationList::later);
+            if (recent != null) {
+                recent.userCutoffs.merge(userName, cutoff, TokenRevocationList::later);
+            }
+        }
+    }
+
+    /**
+     * 만료된 행을 지우고 DB에서 filter / 강제 로그아웃 목록을 다시 만듭니다. 동시에 하나만 실행.
+     */
+    public synchronized void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        int pruned = revokedTokenRepo.deleteExpired(now);
+
+        synchronized (lock) {
+            recent = new Snapshot(null);
+        }
+        Snapshot next = readOnlyTransaction.execute(status -> {
+            long count = revokedTokenRepo.countActiveTokenIds(now);
+            Snapshot snapshot = new Snapshot(BloomFilter.create(Math.max(count * 2, minExpectedInsertions), fpp));
+            try (Stream<String> tokenIds = revokedTokenRepo.streamActiveTokenIds(now)) {
+                tokenIds.forEach(tokenId -> snapshot.tokenIds.put(TOKEN_KEY + tokenId));
+            }
+            for (RevokedToken cutoff : revokedTokenRepo.findActiveUserCutoffs(now)) {
+                snapshot.userCutoffs.merge(cutoff.getUserName(), toInstant(cutoff.getIssuedBefore()), TokenRevocationList::later);
+            }
+            return snapshot;
+        });
+
+        synchronized (lock) {
+            recent.recentTokenIds.forEach(tokenId -> next.tokenIds.put(TOKEN_KEY + tokenId));
+            recent.userCutoffs.forEach((userName, cutoff) -> next.userCutoffs.merge(userName, cutoff, TokenRevocationList::later));
+            current = next;
+            recent = null;
+        }
+        log.debug("토큰 폐기 목록 갱신 pruned:{}, userCutoffs:{}", pruned, next.userCutoffs.size());
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // 이전 snapshot을 그대로 씀 (이 인스턴스에서 폐기한 것은 들어있음)
+            failedRefreshes.increment();
+            synchronized (lock) {
+                recent = null;
+            }
+            log.error("토큰 폐기 목록 갱신 실패", e);
+        }
+    }
+
+    private static Instant later(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.revocation.filter.bytes", this, list -> list.current.tokenIds.sizeInBytes()).register(registry);
+        Gauge.builder("jwt.revocation.user.cutoffs", this, list -> list.current.userCutoffs.size()).register(registry);
+        FunctionCounter.builder("jwt.revocation.filter.positives", filterPositives, LongAdder::sum)
+                .description("Bloom filter가 있을 수도 있다고 해서 DB를 확인한 횟수")
+                .register(registry);
+        FunctionCounter.builder("jwt.revocation.filter.false.positives", falsePositives, LongAdder::sum).register(registry);
+        FunctionCounter.builder("jwt.revocation.refresh.failures", failedRefreshes, LongAdder::sum).register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdownNow();
+    }
+
+    private static class Snapshot {
+        final BloomFilter tokenIds;
+        final Map<String, Instant> userCutoffs = new ConcurrentHashMap<>();
+        final List<String> recentTokenIds = new ArrayList<>();
+
+        Snapshot(BloomFilter tokenIds) {
+            this.tokenIds = tokenIds;
+        }
+    }
+}
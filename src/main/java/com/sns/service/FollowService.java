@@ -0,0 +1,74 @@
+package com.sns.service;
+
+import com.sns.exception.AppException;
+import com.sns.exception.ErrorCode;
+import com.sns.repository.FollowRepo;
+import com.sns.repository.UserRepo;
+import com.sns.timeline.HomeTimeline;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로우 / 언팔로우. 같은 요청을 여러 번 보내도 결과는 한 번 보낸 것과 같음.
+ * 팔로워 수는 follow 행과 같은 트랜잭션에서 +1 / -1 합니다.
+ */
+@Service
+public class FollowService {
+
+    private final FollowRepo followRepo;
+    private final UserRepo userRepo;
+    private final HomeTimeline homeTimeline;
+    private final TransactionTemplate transactionTemplate;
+
+    public FollowService(FollowRepo followRepo, UserRepo userRepo, HomeTimeline homeTimeline,
+                         PlatformTransactionManager transactionManager) {
+        this.followRepo = followRepo;
+        this.userRepo = userRepo;
+        this.homeTimeline = homeTimeline;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void follow(String follower, String followee) {
+        if (follower.equals(followee)) {
+            throw new AppException(ErrorCode.INVALID_FOLLOW, ErrorCode.INVALID_FOLLOW.getMessage());
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // followee 행을 먼저 잠그고 insert (insert가 FK 확인으로 같은 행에 shared lock을 잡은 뒤 update 하면 동시 팔로우끼리 deadlock)
+                if (userRepo.addFollowerCount(followee, 1) == 0) {
+                    throw new AppException(ErrorCode.USERNAME_NOT_FOUND, String.format("%s는 존재하지 않습니다.", followee));
+                }
+                if (followRepo.insertByUserNames(follower, followee, LocalDateTime.now()) == 0) {
+                    throw new AppException(ErrorCode.USERNAME_NOT_FOUND, String.format("%s는 존재하지 않습니다.", follower));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 이미 팔로우 중 - 팔로워 수 증가도 rollback 됨
+            return;
+        }
+        homeTimeline.followChanged(follower, followee);
+    }
+
+    public void unfollow(String follower, String followee) {
+        boolean deleted = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (followRepo.deleteByUserNames(follower, followee) == 0) {
+                return false;
+            }
+            userRepo.addFollowerCount(followee, -1);
+            return true;
+        }));
+        if (deleted) {
+            homeTimeline.followChanged(follower, followee);
+            return;
+        }
+        // 0건일 때만 원인 확인 - 팔로우 중이 아니면 그대로 성공
+        if (!userRepo.existsByUserName(followee)) {
+            throw new AppException(ErrorCode.USERNAME_NOT_FOUND, String.format("%s는 존재하지 않습니다.", followee));
+        }
+    }
+}
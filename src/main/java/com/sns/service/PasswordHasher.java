@@ -0,0 +1,98 @@
+package com.sns.service;
+
+import com.sns.exception.AppException;
+import com.sns.exception.ErrorCode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해싱/검증 전용 스레드 풀. CPU 코어 수만큼의 스레드와 고정 크기 큐를 쓰고,
+ * 큐가 가득 차면 기다리지 않고 바로 SERVER_BUSY로 실패합니다 (Tomcat 요청 스레드를 붙잡지 않기 위함).
+ */
+@Component
+@Slf4j
+public class PasswordHasher implements MeterBinder, DisposableBean {
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    public PasswordHasher(BCryptPasswordEncoder encoder,
+                          @Value("${password.hash.threads:0}") int threads,
+                          @Value("${password.hash.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.encoder = encoder;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                waitCount.increment();
+                waitNanos.add(System.nanoTime() - enqueuedAt);
+                return task.get();
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.warn("password-hash 큐가 가득 찼습니다. queueDepth:{}", getQueueDepth());
+            throw new AppException(ErrorCode.SERVER_BUSY, ErrorCode.SERVER_BUSY.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .register(registry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+        FunctionTimer.builder("password.hash.wait", this,
+                        h -> h.waitCount.sum(), h -> h.waitNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("큐에 들어간 뒤 실행되기까지 기다린 시간")
+                .register(registry);
+        FunctionCounter.builder("password.hash.rejected", rejectedCount, LongAdder::sum)
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,153 @@
+package com.sns.service;
+
+import com.sns.cache.PostVersionCache;
+import com.sns.domain.dto.post.PostBulkCreateRes;
+import com.sns.domain.dto.post.PostBulkItemRes;
+import com.sns.domain.dto.post.PostCreateReq;
+import com.sns.domain.entity.user.User;
+import com.sns.exception.AppException;
+import com.sns.exception.ErrorCode;
+import com.sns.repository.PostBulkInserter;
+import com.sns.repository.UserRepo;
+import com.sns.search.PostSearchIndex;
+import com.sns.timeline.HomeTimeline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 구 시스템 이관용 대량 등록. 작성자는 한 번만 조회하고, chunk-size 건씩 트랜잭션을 나눠서 JDBC batch로 insert 합니다.
+ * 한 건이 잘못되어도 나머지는 계속 진행하고 항목별 id / 에러를 돌려줍니다.
+ * - 길이 등 미리 알 수 있는 오류는 insert 전에 걸러냄
+ * - 그래도 제약 조건 위반으로 chunk가 rollback 되면 반씩 나눠 다시 시도해서 문제 항목만 실패 처리
+ */
+@Service
+@Slf4j
+public class PostBulkService {
+
+    static final int MAX_LENGTH = 255; // V1의 title / body varchar(255)
+
+    private final UserRepo userRepo;
+    private final PostBulkInserter postBulkInserter;
+    private final PostSearchIndex postSearchIndex;
+    private final PostVersionCache postVersionCache;
+    private final HomeTimeline homeTimeline;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public PostBulkService(UserRepo userRepo, PostBulkInserter postBulkInserter, PostSearchIndex postSearchIndex,
+                           PostVersionCache postVersionCache, HomeTimeline homeTimeline, PlatformTransactionManager transactionManager,
+                           @Value("${post.bulk.chunk-size:5000}") int chunkSize) {
+        this.userRepo = userRepo;
+        this.postBulkInserter = postBulkInserter;
+        this.postSearchIndex = postSearchIndex;
+        this.postVersionCache = postVersionCache;
+        this.homeTimeline = homeTimeline;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public PostBulkCreateRes write(Iterator<PostCreateReq> createReqs, String name) {
+        User user = userRepo.findByUserName(name)
+                .orElseThrow(() -> new AppException(ErrorCode.USERNAME_NOT_FOUND, String.format("%s는 존재하지 않습니다.", name)));
+
+        List<PostBulkItemRes> items = new ArrayList<>();
+        List<PostCreateReq> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+
+        int index = 0;
+        while (createReqs.hasNext()) {
+            PostCreateReq createReq = createReqs.next();
+            String error = validate(createReq);
+            if (error != null) {
+                items.add(PostBulkItemRes.fail(index++, error));
+                continue;
+            }
+
+            chunk.add(createReq);
+            chunkIndexes.add(index++);
+            if (chunk.size() == chunkSize) {
+                flush(user.getId(), chunk, chunkIndexes, items);
+            }
+        }
+        flush(user.getId(), chunk, chunkIndexes, items);
+
+        List<Long> postIds = new ArrayList<>(items.size());
+        for (PostBulkItemRes item : items) {
+            if (item.getPostId() != null) {
+                postIds.add(item.getPostId());
+            }
+        }
+        homeTimeline.fanOutAfterCommit(name, postIds);
+
+        items.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        int created = (int) items.stream().filter(item -> item.getPostId() != null).count();
+        return new PostBulkCreateRes(created, items.size() - created, items);
+    }
+
+    private void flush(Long userId, List<PostCreateReq> chunk, List<Integer> chunkIndexes, List<PostBulkItemRes> items) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        insert(userId, chunk, chunkIndexes, items);
+        postVersionCache.invalidateFeed();
+
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+
+    // 한 트랜잭션으로 insert. 제약 조건 위반이면 rollback 된 범위를 반씩 나눠 다시 시도 (나쁜 항목 k건이면 트랜잭션 O(k log n)번)
+    private void insert(Long userId, List<PostCreateReq> posts, List<Integer> indexes, List<PostBulkItemRes> items) {
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> postBulkInserter.insert(userId, posts, LocalDateTime.now()));
+            for (int i = 0; i < indexes.size(); i++) {
+                items.add(PostBulkItemRes.success(indexes.get(i), ids.get(i)));
+                postSearchIndex.indexAfterCommit(ids.get(i), posts.get(i).getTitle(), posts.get(i).getBody());
+            }
+        } catch (DataIntegrityViolationException e) {
+            if (posts.size() == 1) {
+                log.warn("bulk insert 항목 실패 (index {}): {}", indexes.get(0), e.getMessage());
+                items.add(PostBulkItemRes.fail(indexes.get(0), ErrorCode.DATABASE_ERROR.getMessage()));
+                return;
+            }
+            int half = posts.size() / 2;
+            insert(userId, posts.subList(0, half), indexes.subList(0, half), items);
+            insert(userId, posts.subList(half, posts.size()), indexes.subList(half, indexes.size()), items);
+        } catch (DataAccessException e) {
+            // 연결 실패 등 항목과 상관없는 오류 - 나눠서 다시 시도해도 같으므로 해당 항목은 모두 실패 처리
+            log.error("bulk insert 실패 ({}건): {}", posts.size(), e.getMessage());
+            for (Integer index : indexes) {
+                items.add(PostBulkItemRes.fail(index, ErrorCode.DATABASE_ERROR.getMessage()));
+            }
+        }
+    }
+
+    private String validate(PostCreateReq createReq) {
+        if (createReq == null) {
+            return "항목이 비어있습니다.";
+        }
+        if (createReq.getTitle() == null || createReq.getTitle().isBlank()) {
+            return "title이 비어있습니다.";
+        }
+        if (createReq.getBody() == null) {
+            return "body가 비어있습니다.";
+        }
+        if (createReq.getTitle().length() > MAX_LENGTH) {
+            return String.format("title은 %d자 이하여야 합니다.", MAX_LENGTH);
+        }
+        if (createReq.getBody().length() > MAX_LENGTH) {
+            return String.format("body는 %d자 이하여야 합니다.", MAX_LENGTH);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.sns.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sns.domain.dto.post.PostDto;
+import com.sns.domain.entity.post.Post;
+import com.sns.repository.PostRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 포스트를 NDJSON(한 줄에 PostDto 하나)으로 내보냅니다.
+ * 커서로 한 줄씩 읽어서 바로 쓰고, 영속성 컨텍스트를 주기적으로 비워서 테이블 크기와 상관없이 메모리 사용량이 일정합니다.
+ */
+@Service
+@Slf4j
+public class PostExportService {
+
+    private final PostRepo postRepo;
+    private final EntityManager entityManager;
+    private final ObjectWriter postWriter;
+    private final int clearInterval;
+
+    public PostExportService(PostRepo postRepo, EntityManager entityManager, ObjectMapper objectMapper,
+                             @Value("${post.export.clear-interval:1000}") int clearInterval) {
+        this.postRepo = postRepo;
+        this.entityManager = entityManager;
+        this.postWriter = objectMapper.writerFor(PostDto.class);
+        this.clearInterval = clearInterval;
+    }
+
+    @Transactional(readOnly = true)
+    public long export(OutputStream outputStream) throws IOException {
+        OutputStream out = new BufferedOutputStream(outputStream, 64 * 1024);
+        long count = 0;
+
+        try (Stream<Post> posts = postRepo.streamAll()) {
+            Iterator<Post> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                Post post = iterator.next();
+                out.write(postWriter.writeValueAsBytes(PostDto.of(post, post.getUser().getUserName())));
+                out.write('\n');
+
+                if (++count % clearInterval == 0) {
+                    entityManager.clear(); // 이미 쓴 Post/User는 더 이상 들고 있을 필요 없음
+                }
+            }
+        }
+
+        out.flush();
+        log.info("post export 완료: {}건", count);
+        return count;
+    }
+}
@@ -0,0 +1,58 @@
+package com.sns.service;
+
+import com.sns.cache.PostLikeCounter;
+import com.sns.exception.AppException;
+import com.sns.exception.ErrorCode;
+import com.sns.repository.PostLikeRepo;
+import com.sns.repository.PostRepo;
+import com.sns.repository.UserRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좋아요 / 좋아요 취소. 누른 기록은 (post, user) unique 행으로 바로 저장하고,
+ * 개수는 post_entity 행을 잠그지 않도록 PostLikeCounter에 모아서 나중에 반영합니다.
+ * 같은 요청을 여러 번 보내도 결과는 한 번 보낸 것과 같음.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostLikeService {
+
+    private final PostLikeRepo postLikeRepo;
+    private final PostRepo postRepo;
+    private final UserRepo userRepo;
+    private final PostLikeCounter postLikeCounter;
+
+    // 정상 경로는 INSERT 한 번 (insert가 commit된 뒤에 개수 증가)
+    public void like(Long postId, String name) {
+        try {
+            if (postLikeRepo.insertByUserName(postId, name, LocalDateTime.now()) == 0) {
+                throw new AppException(ErrorCode.USERNAME_NOT_FOUND, String.format("%s는 존재하지 않습니다.", name));
+            }
+            postLikeCounter.increment(postId);
+        } catch (DataIntegrityViolationException e) {
+            // 포스트가 없거나(FK) 이미 누른 경우(unique) - 이미 누른 경우는 그대로 성공
+            if (!postRepo.existsById(postId)) {
+                throw new AppException(ErrorCode.POST_NOT_FOUND, String.format("%d 포스트가 존재하지 않습니다.", postId));
+            }
+        }
+    }
+
+    // 정상 경로는 DELETE 한 번
+    public void unlike(Long postId, String name) {
+        if (postLikeRepo.deleteByPostIdAndUserName(postId, name) > 0) {
+            postLikeCounter.decrement(postId);
+            return;
+        }
+        // 0건일 때만 원인 확인 - 누른 적이 없으면 그대로 성공
+        if (!postRepo.existsById(postId)) {
+            throw new AppException(ErrorCode.POST_NOT_FOUND, String.format("%d 포스트가 존재하지 않습니다.", postId));
+        }
+        if (!userRepo.existsByUserName(name)) {
+            throw new AppException(ErrorCode.USERNAME_NOT_FOUND, String.format("%s는 존재하지 않습니다.", name));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.sns.service;
+
+import com.sns.domain.dto.post.PostDto;
+import com.sns.domain.dto.post.PostFeedView;
+import com.sns.domain.dto.post.PostSearchCursor;
+import com.sns.domain.dto.post.PostSliceRes;
+import com.sns.repository.PostRepo;
+import com.sns.search.PostSearchIndex;
+import com.sns.search.SearchHit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 - 색인에서 순위를 매기고, 화면에 필요한 값은 해당 id들만 DB에서 한 번에 가져옵니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    private static final int MAX_SIZE = 100;
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepo postRepo;
+
+    // 시작 시 전체 색인이 끝났는지 - 끝나기 전에는 아직 읽지 않은 포스트가 결과에서 빠짐
+    public boolean isIndexReady() {
+        return postSearchIndex.isReady();
+    }
+
+    public PostSliceRes search(String query, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+
+        SearchHit after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            PostSearchCursor searchCursor = PostSearchCursor.decode(cursor);
+            after = new SearchHit(searchCursor.getScore(), searchCursor.getId());
+        }
+
+        // 한 건 더 가져와서 다음 페이지 여부 판단
+        List<SearchHit> hits = postSearchIndex.search(query, after, limit + 1);
+        boolean hasNext = hits.size() > limit;
+        if (hasNext) {
+            hits = hits.subList(0, limit);
+        }
+        if (hits.isEmpty()) {
+            return new PostSliceRes(List.of(), 0, false, null);
+        }
+
+        List<Long> ids = hits.stream().map(SearchHit::getPostId).collect(Collectors.toList());
+        Map<Long, PostFeedView> views = postRepo.findFeedByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostFeedView::getId, Function.identity()));
+
+        // 색인 순서대로, 그 사이 삭제된 포스트는 건너뜀
+        List<PostDto> content = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            PostFeedView view = views.get(hit.getPostId());
+            if (view != null) {
+                content.add(PostDto.toListItem(view));
+            }
+        }
+
+        SearchHit last = hits.get(hits.size() - 1);
+        String nextCursor = hasNext ? new PostSearchCursor(last.getScore(), last.getPostId()).encode() : null;
+        return new PostSliceRes(content, content.size(), hasNext, nextCursor);
+    }
+}
@@ -1,27 +1,58 @@
 package com.sns.service;
 
+import com.sns.cache.PostCache;
+import com.sns.cache.PostLikeCounter;
+import com.sns.cache.PostVersionCache;
+import com.sns.config.PrimaryReadTransaction;
+import com.sns.domain.dto.post.PostBatchRes;
 import com.sns.domain.dto.post.PostCreateReq;
+import com.sns.domain.dto.post.PostCursor;
 import com.sns.domain.dto.post.PostDto;
+import com.sns.domain.dto.post.PostFeedView;
+import com.sns.domain.dto.post.PostSliceRes;
 import com.sns.domain.dto.post.PostUpdateReq;
+import com.sns.domain.dto.post.PostVersion;
 import com.sns.domain.entity.post.Post;
 import com.sns.domain.entity.user.User;
 import com.sns.exception.AppException;
 import com.sns.exception.ErrorCode;
 import com.sns.repository.PostRepo;
 import com.sns.repository.UserRepo;
+import com.sns.search.PostSearchIndex;
+import com.sns.timeline.HomeTimeline;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final int MAX_SLICE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final UserRepo userRepo;
     private final PostRepo postRepo;
+    private final PostCache postCache;
+    private final PostVersionCache postVersionCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostLikeCounter postLikeCounter;
+    private final HomeTimeline homeTimeline;
+    private final PrimaryReadTransaction primaryRead;
 
     //Create
     public PostDto write(PostCreateReq createReq, String name) {
@@ -36,6 +67,9 @@ public class PostService {
                 .build();
 
         Post savedPost = postRepo.save(post);
+        postSearchIndex.indexAfterCommit(savedPost.getId(), savedPost.getTitle(), savedPost.getBody());
+        postVersionCache.invalidateFeed();
+        homeTimeline.fanOutAfterCommit(name, List.of(savedPost.getId()));
 
         return PostDto.builder()
                 .id(savedPost.getId())
@@ -46,69 +80,192 @@ public class PostService {
     }
 
     //Read
+    // 캐시 hit이면 connection을 잡지 않음. 캐시에 넣을 값은 replica가 아니라 primary에서 (PrimaryReadTransaction)
+    @Transactional(readOnly = true)
     public PostDto get(Long postId) {
 
-        //Post 존재 X
-        Post post = postRepo.findById(postId)
-                .orElseThrow(() -> new AppException(ErrorCode.POST_NOT_FOUND, String.format("%d 포스트가 존재하지 않습니다.", postId)));
+        //Post 존재 X - 캐시에 없을 때만 DB 조회
+        PostDto postDto = postCache.get(postId, id -> primaryRead.execute(() -> postRepo.findDetailById(id))
+                .map(PostDto::of)
+                .orElseThrow(() -> new AppException(ErrorCode.POST_NOT_FOUND, String.format("%d 포스트가 존재하지 않습니다.", id))));
+        return withPendingLikes(postDto);
+    }
 
-        return PostDto.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .body(post.getBody())
-                .userName(post.getUser().getUserName())
-                .createdAt(post.getCreatedAt())
-                .lastModifiedAt(post.getLastModifiedAt())
-                .build();
+    // 여러 건 조회 - 캐시에 있는 것은 그대로, 나머지는 IN 쿼리 한 번 (건수와 상관없이 쿼리 최대 1번)
+    @Transactional(readOnly = true)
+    public PostBatchRes getBatch(List<Long> postIds) {
+        Set<Long> ids = new LinkedHashSet<>(postIds);
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new AppException(ErrorCode.INVALID_BATCH_SIZE, String.format("최대 %d건까지 조회할 수 있습니다.", MAX_BATCH_SIZE));
+        }
+
+        Map<Long, PostDto> found = new HashMap<>(postCache.getAllPresent(ids));
+        List<Long> notCached = new ArrayList<>();
+        for (Long id : ids) {
+            if (!found.containsKey(id)) {
+                notCached.add(id);
+            }
+        }
+        if (!notCached.isEmpty()) {
+            postRepo.findDetailByIdIn(notCached).forEach(view -> found.put(view.getId(), PostDto.of(view)));
+        }
+
+        List<PostDto> posts = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            PostDto postDto = found.get(id);
+            if (postDto == null) {
+                missingIds.add(id);
+            } else {
+                posts.add(withPendingLikes(postDto));
+            }
+        }
+        return new PostBatchRes(posts, missingIds);
+    }
+
+    // 조건부 GET - 304면 PostDto를 만들지 않도록 버전만 따로 (캐시 hit이면 DB 조회 없음)
+    // 버전에는 DB의 좋아요 수가 들어 있고, 이 인스턴스에서 아직 flush하지 않은 좋아요 수만 더 섞음
+    @Transactional(readOnly = true)
+    public PostVersion getVersion(Long postId) {
+        PostVersion version = postVersionCache.get(postId, id -> primaryRead.execute(() -> postRepo.findVersionStampById(id))
+                .map(stamp -> PostVersion.of(id, stamp))
+                .orElseThrow(() -> new AppException(ErrorCode.POST_NOT_FOUND, String.format("%d 포스트가 존재하지 않습니다.", id))));
+        long pending = postLikeCounter.pending(postId);
+        return pending == 0 ? version : version.withVariant("likes+" + pending);
     }
 
+    // 좋아요는 어느 인스턴스에서 눌렸든 flush된 뒤 like_count 합계로 반영 (flush-interval + feed-ttl 안에)
+    @Transactional(readOnly = true)
+    public PostVersion getFeedVersion() {
+        return postVersionCache.getFeed(() -> PostVersion.of(postRepo.findFeedStamp()));
+    }
+
+    @Transactional(readOnly = true)
     public Page<PostDto> getAllPost(Pageable pageable) {
-        Page<Post> posts = postRepo.findAll(pageable);
-        Page<PostDto> postDtos = PostDto.toDtoList(posts);
+        Page<PostFeedView> posts = postRepo.findFeed(pageable);
+        Page<PostDto> postDtos = PostDto.toDtoList(posts).map(this::withPendingLikes);
         return postDtos;
     }
 
-    //Update
-    public PostDto update(Long postId, PostUpdateReq updateReq, String name) {
-        //Post 존재 X
-        Post post = postRepo.findById(postId)
-                .orElseThrow(() -> new AppException(ErrorCode.POST_NOT_FOUND, String.format("%d 포스트가 존재하지 않습니다.", postId)));
+    // 커서(keyset) 페이징 - 깊은 페이지도 첫 페이지와 같은 비용, count 쿼리 없음
+    @Transactional(readOnly = true)
+    public PostSliceRes getPostSlice(String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_SLICE_SIZE));
 
-        //User 존재 X
-        User user = userRepo.findByUserName(name)
-                .orElseThrow(() -> new AppException(ErrorCode.USERNAME_NOT_FOUND, String.format("%s는 존재하지 않습니다.", name)));
+        Slice<PostFeedView> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepo.findLatest(pageable);
+        } else {
+            PostCursor postCursor = PostCursor.decode(cursor);
+            posts = postRepo.findOlderThan(postCursor.getCreatedAt(), postCursor.getId(), pageable);
+        }
+
+        return toSliceRes(posts);
+    }
+
+    // 작성자별 피드 - 커서 페이징, (user_id, created_at, id) 인덱스만으로 조회
+    // 정상 경로는 쿼리 1번, 결과가 비었을 때만 사용자 존재 여부 확인
+    @Transactional(readOnly = true)
+    public PostSliceRes getUserPostSlice(String userName, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_SLICE_SIZE));
+
+        Slice<PostFeedView> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepo.findLatestByUserName(userName, pageable);
+        } else {
+            PostCursor postCursor = PostCursor.decode(cursor);
+            posts = postRepo.findOlderThanByUserName(userName, postCursor.getCreatedAt(), postCursor.getId(), pageable);
+        }
 
-        if (!post.getUser().getUserName().equals(name)) {
-            throw new AppException(ErrorCode.INVALID_PERMISSION, String.format("%s에게 %d에 대한 권한이 없습니다.", name, postId));
+        if (!posts.hasContent() && !userRepo.existsByUserName(userName)) {
+            throw new AppException(ErrorCode.USERNAME_NOT_FOUND, String.format("%s는 존재하지 않습니다.", userName));
         }
+        return toSliceRes(posts);
+    }
+
+    // id 목록 순서대로 목록용 PostDto (IN 쿼리 한 번, 그 사이 삭제된 포스트는 빠짐)
+    @Transactional(readOnly = true)
+    public List<PostDto> getFeedItems(List<Long> ids) {
+        Map<Long, PostFeedView> views = postRepo.findFeedByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostFeedView::getId, Function.identity()));
+
+        List<PostDto> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PostFeedView view = views.get(id);
+            if (view != null) {
+                content.add(withPendingLikes(PostDto.toListItem(view)));
+            }
+        }
+        return content;
+    }
 
-        post.setTitle(updateReq.getTitle());
-        post.setBody(updateReq.getBody());
-        post.setLastModifiedAt(LocalDateTime.now());
+    //Update
+    // 권한 확인과 수정을 UPDATE 한 문장으로 처리 - 정상 경로는 쿼리 1번
+    @Transactional
+    public PostDto update(Long postId, PostUpdateReq updateReq, String name) {
+        LocalDateTime now = LocalDateTime.now();
 
-        Post savedPost = postRepo.saveAndFlush(post);
+        int updated = postRepo.updateByIdAndUserName(postId, name, updateReq.getTitle(), updateReq.getBody(), now);
+        if (updated == 0) {
+            throw mutationFailure(postId, name);
+        }
+        postCache.invalidate(postId);
+        postVersionCache.invalidate(postId);
+        postSearchIndex.indexAfterCommit(postId, updateReq.getTitle(), updateReq.getBody());
 
-        return PostDto.of(savedPost, user.getUserName());
+        return PostDto.builder()
+                .id(postId)
+                .title(updateReq.getTitle())
+                .body(updateReq.getBody())
+                .userName(name)
+                .lastModifiedAt(now)
+                .build();
     }
 
     //Delete
+    // 권한 확인과 삭제를 DELETE 한 문장으로 처리 - 정상 경로는 쿼리 1번
+    @Transactional
     public PostDto delete(Long postId, String name) {
-        //Post 존재 X
-        Post post = postRepo.findById(postId)
-                .orElseThrow(() -> new AppException(ErrorCode.POST_NOT_FOUND, String.format("%d 포스트가 존재하지 않습니다.", postId)));
-
-        //User 존재 X
-        User user = userRepo.findByUserName(name)
-                .orElseThrow(() -> new AppException(ErrorCode.USERNAME_NOT_FOUND, String.format("%s는 존재하지 않습니다.", name)));
-
-        if (!post.getUser().getUserName().equals(name)) {
-            throw new AppException(ErrorCode.INVALID_PERMISSION, String.format("%s에게 %d에 대한 권한이 없습니다.", name, postId));
+        int deleted = postRepo.deleteByIdAndUserName(postId, name);
+        if (deleted == 0) {
+            throw mutationFailure(postId, name);
         }
+        postRepo.incrementFeedVersion();
+        postCache.invalidate(postId);
+        postVersionCache.invalidate(postId);
+        postSearchIndex.removeAfterCommit(postId);
 
-        postRepo.delete(post);
+        return PostDto.builder()
+                .id(postId)
+                .userName(name)
+                .build();
+    }
 
-        return PostDto.of(post, user.getUserName());
+    private PostSliceRes toSliceRes(Slice<PostFeedView> posts) {
+        List<PostDto> content = PostDto.toDtoList(posts).map(this::withPendingLikes).getContent();
+        String nextCursor = null;
+        if (posts.hasNext()) {
+            PostFeedView last = posts.getContent().get(posts.getNumberOfElements() - 1);
+            nextCursor = new PostCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new PostSliceRes(content, content.size(), posts.hasNext(), nextCursor);
     }
 
+    // DB 값 + 아직 반영되지 않은 좋아요 수 (캐시된 PostDto는 그대로 두고 복사본에 더함)
+    private PostDto withPendingLikes(PostDto postDto) {
+        long pending = postLikeCounter.pending(postDto.getId());
+        return pending == 0 ? postDto : postDto.toBuilder().likeCount(postDto.getLikeCount() + pending).build();
+    }
 
+    // 수정/삭제가 0건일 때만 원인을 조회 (Post 존재 X -> User 존재 X -> 권한 X 순서는 기존과 동일)
+    private AppException mutationFailure(Long postId, String name) {
+        String author = postRepo.findUserNameById(postId).orElse(null);
+        if (author == null) {
+            return new AppException(ErrorCode.POST_NOT_FOUND, String.format("%d 포스트가 존재하지 않습니다.", postId));
+        }
+        if (!userRepo.existsByUserName(name)) {
+            return new AppException(ErrorCode.USERNAME_NOT_FOUND, String.format("%s는 존재하지 않습니다.", name));
+        }
+        return new AppException(ErrorCode.INVALID_PERMISSION, String.format("%s에게 %d에 대한 권한이 없습니다.", name, postId));
+    }
 }
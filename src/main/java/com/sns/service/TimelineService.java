@@ -0,0 +1,59 @@
+package com.sns.service;
+
+import com.sns.domain.dto.post.PostDto;
+import com.sns.domain.dto.post.PostSliceRes;
+import com.sns.exception.AppException;
+import com.sns.exception.ErrorCode;
+import com.sns.timeline.HomeTimeline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 홈 타임라인 - 순서는 HomeTimeline(메모리)에서, 화면에 필요한 값은 해당 id들만 DB에서 한 번에.
+ * 커서는 마지막 포스트 id.
+ */
+@Service
+@RequiredArgsConstructor
+public class TimelineService {
+
+    private static final int MAX_SIZE = 100;
+
+    private final HomeTimeline homeTimeline;
+    private final PostService postService;
+
+    public PostSliceRes getTimeline(String userName, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+        long before = parseCursor(cursor);
+
+        // 한 건 더 가져와서 다음 페이지 여부 판단
+        long[] ids = homeTimeline.read(userName, before, limit + 1);
+        boolean hasNext = ids.length > limit;
+        int count = Math.min(ids.length, limit);
+        if (count == 0) {
+            return new PostSliceRes(List.of(), 0, false, null);
+        }
+
+        List<Long> pageIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pageIds.add(ids[i]);
+        }
+        List<PostDto> content = postService.getFeedItems(pageIds);
+
+        String nextCursor = hasNext ? Long.toString(ids[count - 1]) : null;
+        return new PostSliceRes(content, content.size(), hasNext, nextCursor);
+    }
+
+    private long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new AppException(ErrorCode.INVALID_CURSOR, ErrorCode.INVALID_CURSOR.getMessage());
+        }
+    }
+}
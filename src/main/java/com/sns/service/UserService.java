@@ -1,29 +1,41 @@
 package com.sns.service;
 
+import com.sns.cache.PrincipalCache;
 import com.sns.domain.dto.user.UserDto;
 import com.sns.domain.dto.user.UserJoinReq;
+import com.sns.domain.dto.user.UserPrincipal;
 import com.sns.domain.entity.user.User;
 import com.sns.exception.ErrorCode;
 import com.sns.exception.AppException;
 import com.sns.repository.UserRepo;
-import com.sns.utils.JwtUtil;
+import com.sns.security.JwtKeyRing;
+import com.sns.security.TokenRevocationList;
+import com.sns.utils.VerifiedClaims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepo userRepo;
-    private final BCryptPasswordEncoder encoder;
-
-    @Value("${jwt.token.secret}")
-    private String secretKey;
+    private final PasswordHasher passwordHasher;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final JwtKeyRing jwtKeyRing;
+    private final TaskExecutor taskExecutor; // Spring Boot의 applicationTaskExecutor
 
-    private long expiredTimeMs = 1000L * 60 * 60;
+    @Value("${jwt.token.expire-time:1h}")
+    private Duration expireTime;
 
-    public UserDto join(UserJoinReq userJoinReq) {
+    // 비밀번호 해싱은 PasswordHasher 풀에서 실행, 요청 스레드는 바로 반환
+    // 저장은 해싱 스레드가 아닌 taskExecutor에서 - DB가 느려도 login의 해싱 스레드를 붙잡지 않음
+    public CompletableFuture<UserDto> join(UserJoinReq userJoinReq) {
         // 로직 - 회원 가입
 
         // 회원 userName(id) 중복 check
@@ -36,16 +48,19 @@ public class UserService {
                 });
 
         // 회원가입 .save()
-        User savedUser = userRepo.save(userJoinReq.toEntity(encoder.encode(userJoinReq.getPassword())));
-        return UserDto.builder()
-                .id(savedUser.getId())
-                .userName(savedUser.getUserName())
-                .password(savedUser.getPassword())
-                .userRole(savedUser.getUserRole())
-                .build();
+        return passwordHasher.encode(userJoinReq.getPassword())
+                .thenApplyAsync(encodedPassword -> {
+                    User savedUser = userRepo.save(userJoinReq.toEntity(encodedPassword));
+                    return UserDto.builder()
+                            .id(savedUser.getId())
+                            .userName(savedUser.getUserName())
+                            .password(savedUser.getPassword())
+                            .userRole(savedUser.getUserRole())
+                            .build();
+                }, taskExecutor);
     }
 
-    public String login(String userName, String password) {
+    public CompletableFuture<String> login(String userName, String password) {
 
         //userName이 있는지 확인
         User user = userRepo.findByUserName(userName).orElseThrow(
@@ -53,19 +68,41 @@ public class UserService {
                         ErrorCode.USERNAME_NOT_FOUND.getMessage()));
 
         // password 일치 여부 확인
-        if (!encoder.matches(password, user.getPassword())) {
-            throw new AppException(ErrorCode.INVALID_PASSWORD,
-                    ErrorCode.INVALID_PASSWORD.getMessage());
-        }
+        return passwordHasher.matches(password, user.getPassword())
+                .thenApply(matched -> {
+                    if (!matched) {
+                        throw new AppException(ErrorCode.INVALID_PASSWORD,
+                                ErrorCode.INVALID_PASSWORD.getMessage());
+                    }
+
+                    // 두 가지 확인이 pass면 Token 발행
+                    return jwtKeyRing.createToken(userName, expireTime);   // 기본 1시간 짜리 토큰, 최신 key로 서명
+                });
+    }
 
-        // 두 가지 확인이 pass면 Token 발행
-        return JwtUtil.createToken(userName, secretKey, expiredTimeMs);   // 1시간 짜리 토큰
+    // 로그아웃 - 요청에 쓴 토큰만 폐기
+    public void logout(VerifiedClaims claims) {
+        tokenRevocationList.revokeToken(claims);
     }
 
+    // 강제 로그아웃 - userName에게 지금까지 발급된 토큰 전부 폐기
+    public void revokeTokens(String userName) {
+        if (!userRepo.existsByUserName(userName)) {
+            throw new AppException(ErrorCode.USERNAME_NOT_FOUND, String.format("%s는 존재하지 않습니다.", userName));
+        }
+        tokenRevocationList.revokeUser(userName);
+    }
+
+    @Transactional(readOnly = true)
     public User getUserByUserName(String userName) {
         return userRepo.findByUserName(userName)
                 .orElseThrow(() -> new AppException(ErrorCode.USERNAME_NOT_FOUND,
                         ErrorCode.USERNAME_NOT_FOUND.getMessage()));
     }
 
+    // 인증용 - 캐시에 없을 때만 DB 조회
+    public UserPrincipal getPrincipal(String userName) {
+        return principalCache.get(userName, name -> UserPrincipal.of(getUserByUserName(name)));
+    }
+
 }
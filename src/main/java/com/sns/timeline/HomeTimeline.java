@@ -0,0 +1,331 @@
+package com.sns.timeline;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sns.repository.FollowRepo;
+import com.sns.repository.PostRepo;
+import com.sns.repository.UserRepo;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 홈 타임라인 (내 글 + 팔로우한 계정의 글, 최신순).
+ * - 사용자마다 최근 포스트 id를 TimelineBuffer에 들고 있고, 글이 등록되면 fan-out 스레드가 팔로워들의 buffer에 id를 넣어줌
+ * - 팔로워가 popular-threshold 이상인 계정은 fan-out 하지 않고, 그 계정의 글 buffer를 읽을 때 k-way 병합
+ * - buffer가 없으면(처음 읽거나 밀려난 경우) DB에서 최근 capacity개로 다시 만듦. 메모리에 없는 buffer에는 fan-out 하지 않음
+ * - fan-out은 이 인스턴스에서 등록된 글만 하므로, 다른 인스턴스에서 등록된 글은 buffer가 ttl로 만료되어 다시 만들 때 보임
+ * 읽기 비용은 페이지 크기 x (1 + 팔로우한 인기 계정 수)이고, 팔로우한 일반 계정 수와는 상관없습니다.
+ * 최신 capacity개보다 오래된 글은 타임라인에서 보이지 않습니다.
+ */
+@Component
+@Slf4j
+public class HomeTimeline implements MeterBinder, DisposableBean {
+
+    private final Cache<String, TimelineBuffer> homes;    // userName -> 내 글 + 팔로우한 계정의 글
+    private final Cache<String, TimelineBuffer> authors;  // 인기 계정 userName -> 그 계정의 글
+    private final Cache<String, List<String>> popularFollowees; // userName -> 팔로우한 인기 계정
+    private final Cache<String, Boolean> popularAuthors;  // 작성자 userName -> 인기 계정 여부
+
+    private final PostRepo postRepo;
+    private final FollowRepo followRepo;
+    private final UserRepo userRepo;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor fanOutExecutor;
+    private final int capacity;
+    private final long popularThreshold;
+
+    private final LongAdder fanOutWrites = new LongAdder();
+    private final LongAdder fanOutRejected = new LongAdder();
+
+    public HomeTimeline(PostRepo postRepo, FollowRepo followRepo, UserRepo userRepo, PlatformTransactionManager transactionManager,
+                        @Value("${timeline.capacity:800}") int capacity,
+                        @Value("${timeline.max-entries:10000000}") long maxEntries,
+                        @Value("${timeline.popular-threshold:10000}") long popularThreshold,
+                        @Value("${timeline.ttl:1m}") Duration ttl,
+                        @Value("${timeline.popular-ttl:1m}") Duration popularTtl,
+                        @Value("${timeline.fan-out.threads:2}") int fanOutThreads,
+                        @Value("${timeline.fan-out.queue-capacity:10000}") int fanOutQueueCapacity) {
+        this.postRepo = postRepo;
+        this.followRepo = followRepo;
+        this.userRepo = userRepo;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // fan-out 거절은 글 등록 트랜잭션의 afterCommit에서 처리하므로 그 트랜잭션에 참여하지 않도록
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.capacity = capacity;
+        this.popularThreshold = popularThreshold;
+
+        // buffer 배열 길이 합이 max-entries를 넘지 않도록 (id 하나 8 byte)
+        this.homes = Caffeine.newBuilder()
+                .maximumWeight(maxEntries)
+                .weigher((String userName, TimelineBuffer buffer) -> buffer.length())
+                .expireAfter(expireAfterCreate(ttl))
+                .recordStats()
+                .build();
+        this.authors = Caffeine.newBuilder()
+                .maximumWeight(Math.max(maxEntries / 10, capacity))
+                .weigher((String userName, TimelineBuffer buffer) -> buffer.length())
+                .expireAfter(expireAfterCreate(ttl))
+                .recordStats()
+                .build();
+        // 인기 계정이 되거나 벗어난 것은 popular-ttl 안에 반영
+        this.popularFollowees = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(popularTtl)
+                .build();
+        this.popularAuthors = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(popularTtl)
+                .build();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.fanOutExecutor = new ThreadPoolExecutor(fanOutThreads, fanOutThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fanOutQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "timeline-fan-out-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * userName의 타임라인에서 before보다 작은 포스트 id를 최신순으로 최대 limit개.
+     *
+     * @param before 0 이하면 가장 최신부터
+     */
+    public long[] read(String userName, long before, int limit) {
+        long[] home = homes.get(userName, this::loadHome).read(before, limit);
+        List<String> popular = popularFollowees.get(userName, name -> followRepo.findPopularFolloweeNames(name, popularThreshold));
+        if (popular.isEmpty()) {
+            return home;
+        }
+
+        long[][] sources = new long[popular.size() + 1][];
+        sources[0] = home;
+        for (int i = 0; i < popular.size(); i++) {
+            sources[i + 1] = authors.get(popular.get(i), this::loadAuthor).read(before, limit);
+        }
+        return merge(sources, limit);
+    }
+
+    // 글 등록이 commit 된 뒤에 fan-out (트랜잭션 밖이면 바로 큐에 넣음)
+    public void fanOutAfterCommit(String author, List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        if (postIds.size() > capacity) {
+            // 대량 등록 - buffer에 남는 것은 최신 capacity개뿐
+            List<Long> sorted = new ArrayList<>(postIds);
+            Collections.sort(sorted);
+            postIds = List.copyOf(sorted.subList(sorted.size() - capacity, sorted.size()));
+        }
+        List<Long> ids = postIds;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submitFanOut(author, ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submitFanOut(author, ids);
+            }
+        });
+    }
+
+    // 팔로우 / 언팔로우 - 다음 읽기에서 DB로 다시 만듦
+    public void followChanged(String follower, String followee) {
+        homes.invalidate(follower);
+        popularFollowees.invalidate(follower);
+        popularAuthors.invalidate(followee);
+    }
+
+    // 테스트 / 운영용 - 남은 fan-out이 끝날 때까지 대기
+    public boolean awaitFanOut(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (fanOutExecutor.getActiveCount() > 0 || !fanOutExecutor.getQueue().isEmpty()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    private void submitFanOut(String author, List<Long> postIds) {
+        try {
+            fanOutExecutor.execute(() -> fanOut(author, postIds));
+        } catch (RejectedExecutionException e) {
+            fanOutRejected.increment();
+            log.warn("timeline fan-out 큐가 가득 찼습니다. author:{}, queueDepth:{}", author, fanOutExecutor.getQueue().size());
+            invalidateFollowers(author);
+        }
+    }
+
+    private void fanOut(String author, List<Long> postIds) {
+        try {
+            // computeIfPresent - 같은 사용자의 buffer를 DB에서 만드는 중이면 끝난 뒤에 넣음
+            append(authors, author, postIds);
+            append(homes, author, postIds);
+
+            boolean popular = popularAuthors.get(author,
+                    name -> userRepo.findFollowerCountByUserName(name).orElse(0L) >= popularThreshold);
+            if (popular) {
+                return;
+            }
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> followers = followRepo.streamFollowerNames(author)) {
+                    followers.forEach(follower -> append(homes, follower, postIds));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("timeline fan-out 실패 author:{}", author, e);
+            invalidateFollowers(author);
+        }
+    }
+
+    // 넣지 못한 글이 빠지지 않도록 작성자와 팔로워의 buffer만 버려서 다음 읽기에서 DB로 다시 만들게 함
+    // (전부 버리면 모든 사용자가 한꺼번에 DB로 다시 만들어서 과부하가 더 커짐). 팔로워를 조회하지 못하면 ttl 안에 반영
+    private void invalidateFollowers(String author) {
+        authors.invalidate(author);
+        homes.invalidate(author);
+        if (Boolean.TRUE.equals(popularAuthors.getIfPresent(author))) {
+            return; // 인기 계정의 글은 authors buffer에서 병합
+        }
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> followers = followRepo.streamFollowerNames(author)) {
+                    followers.forEach(homes::invalidate);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("timeline buffer 무효화 실패 author:{}", author, e);
+        }
+    }
+
+    private void append(Cache<String, TimelineBuffer> buffers, String userName, List<Long> postIds) {
+        buffers.asMap().computeIfPresent(userName, (name, buffer) -> {
+            for (Long postId : postIds) {
+                buffer.add(postId);
+            }
+            fanOutWrites.add(postIds.size());
+            return buffer;
+        });
+    }
+
+    // 만든 시점부터 ttl - expireAfterWrite와 달리 fan-out으로 id를 넣어도(computeIfPresent) 연장되지 않음
+    private static Expiry<String, TimelineBuffer> expireAfterCreate(Duration ttl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String userName, TimelineBuffer buffer, long currentTime) {
+                return ttl.toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(String userName, TimelineBuffer buffer, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(String userName, TimelineBuffer buffer, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    // 내 글과 팔로우한 계정의 글을 각각 인덱스 순서로 capacity개씩 읽어서 합침
+    private TimelineBuffer loadHome(String userName) {
+        PageRequest latest = PageRequest.of(0, capacity);
+        long[][] sources = {
+                descending(postRepo.findIdsByUserName(userName, latest)),
+                descending(postRepo.findFolloweePostIds(userName, latest))
+        };
+        return TimelineBuffer.of(capacity, reverse(merge(sources, capacity)));
+    }
+
+    private TimelineBuffer loadAuthor(String userName) {
+        return TimelineBuffer.of(capacity, reverse(descending(postRepo.findIdsByUserName(userName, PageRequest.of(0, capacity)))));
+    }
+
+    // 쿼리는 (created_at, id) 순서 - created_at을 직접 넣은 글(대량 등록 등)이 있어도 id 순서가 되도록 다시 정렬
+    private static long[] descending(List<Long> ids) {
+        long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().toArray();
+        return reverse(sorted);
+    }
+
+    private static long[] reverse(long[] ids) {
+        long[] reversed = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            reversed[i] = ids[ids.length - 1 - i];
+        }
+        return reversed;
+    }
+
+    // 최신순으로 정렬된 source들을 합쳐서 limit개 (같은 id는 한 번만)
+    static long[] merge(long[][] sources, int limit) {
+        // {source, position} - 현재 가리키는 id가 큰 것이 먼저
+        PriorityQueue<int[]> heap = new PriorityQueue<>(sources.length,
+                (a, b) -> Long.compare(sources[b[0]][b[1]], sources[a[0]][a[1]]));
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i].length > 0) {
+                heap.add(new int[]{i, 0});
+            }
+        }
+
+        long[] merged = new long[limit];
+        int count = 0;
+        while (count < limit && !heap.isEmpty()) {
+            int[] cursor = heap.poll();
+            long id = sources[cursor[0]][cursor[1]];
+            if (count == 0 || merged[count - 1] != id) {
+                merged[count++] = id;
+            }
+            if (++cursor[1] < sources[cursor[0]].length) {
+                heap.add(cursor);
+            }
+        }
+        return count == limit ? merged : Arrays.copyOf(merged, count);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, homes, "timeline-home");
+        CaffeineCacheMetrics.monitor(registry, authors, "timeline-author");
+        Gauge.builder("timeline.fanout.queue", fanOutExecutor, executor -> executor.getQueue().size()).register(registry);
+        FunctionCounter.builder("timeline.fanout.writes", fanOutWrites, LongAdder::sum).register(registry);
+        FunctionCounter.builder("timeline.fanout.rejected", fanOutRejected, LongAdder::sum).register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        fanOutExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,127 @@
+package com.sns.timeline;
+
+/**
+ * 포스트 id를 오름차순으로 최대 capacity개까지 들고 있는 ring buffer.
+ * 새 글은 대부분 가장 큰 id라 뒤에 붙이기만 하고, 가득 차면 가장 오래된 id를 버립니다.
+ * 배열은 작게 시작해서 capacity까지 두 배씩 늘립니다 (글이 적은 사용자가 capacity만큼 차지하지 않도록).
+ * 읽기는 이분 탐색 + 필요한 개수만 복사라서 buffer 크기와 상관없이 페이지 크기만큼의 비용.
+ */
+public class TimelineBuffer {
+
+    private static final int INITIAL_LENGTH = 16;
+
+    private final int capacity;
+    private long[] ids;
+    private int head; // 가장 오래된(작은) id의 위치
+    private int size;
+
+    public TimelineBuffer(int capacity) {
+        this(capacity, INITIAL_LENGTH);
+    }
+
+    private TimelineBuffer(int capacity, int initialLength) {
+        this.capacity = capacity;
+        this.ids = new long[Math.min(capacity, Math.max(initialLength, 1))];
+    }
+
+    // 오래된 순서로 채움
+    public static TimelineBuffer of(int capacity, long[] ascendingIds) {
+        TimelineBuffer buffer = new TimelineBuffer(capacity, Math.max(ascendingIds.length, INITIAL_LENGTH));
+        for (long id : ascendingIds) {
+            buffer.add(id);
+        }
+        return buffer;
+    }
+
+    public synchronized void add(long id) {
+        // 뒤에서부터 들어갈 자리를 찾음 (fan-out 순서가 조금 뒤바뀐 경우만 한두 칸 이동)
+        int position = size;
+        while (position > 0 && get(position - 1) > id) {
+            position--;
+        }
+        if (position > 0 && get(position - 1) == id) {
+            return;
+        }
+
+        if (size == ids.length && size < capacity) {
+            grow();
+        }
+        if (size == ids.length) {
+            if (position == 0) {
+                return; // 가장 오래된 것보다도 오래된 id
+            }
+            head = (head + 1) % ids.length;
+            size--;
+            position--;
+        }
+        for (int i = size; i > position; i--) {
+            set(i, get(i - 1));
+        }
+        set(position, id);
+        size++;
+    }
+
+    /**
+     * before보다 작은 id를 큰 순서(최신순)로 최대 limit개 돌려줍니다.
+     *
+     * @param before 0 이하면 가장 최신부터
+     */
+    public synchronized long[] read(long before, int limit) {
+        int end = before <= 0 ? size : lowerBound(before);
+        int count = Math.min(limit, end);
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = get(end - 1 - i);
+        }
+        return result;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // 메모리 사용량 (캐시 weight) - 배열 길이
+    public synchronized int length() {
+        return ids.length;
+    }
+
+    public synchronized long[] toArray() {
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+
+    // id 이상인 첫 위치
+    private int lowerBound(long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (get(mid) < id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void grow() {
+        long[] grown = new long[Math.min(capacity, ids.length * 2)];
+        for (int i = 0; i < size; i++) {
+            grown[i] = get(i);
+        }
+        ids = grown;
+        head = 0;
+    }
+
+    private long get(int index) {
+        return ids[(head + index) % ids.length];
+    }
+
+    private void set(int index, long id) {
+        ids[(head + index) % ids.length] = id;
+    }
+}
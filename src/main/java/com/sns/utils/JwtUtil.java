@@ -6,10 +6,12 @@ import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 public class JwtUtil {
 
+    // 요청 인증은 JwtKeyRing.verify (미리 만든 key / parser + 검증 캐시)
     private static Claims extractClaims(String token, String key) {
         return Jwts.parser().setSigningKey(key).parseClaimsJws(token).getBody();
     }
@@ -34,6 +36,7 @@ public class JwtUtil {
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString()) // jti - 로그아웃 시 이 토큰만 폐기 (TokenRevocationList)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expireTimeMs))
                 .signWith(SignatureAlgorithm.HS256, key)
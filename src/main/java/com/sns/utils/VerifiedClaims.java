@@ -0,0 +1,40 @@
+package com.sns.utils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 토큰의 claim. 불변이라 여러 요청에서 그대로 재사용해도 됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedClaims {
+    private final String userName;
+    private final String tokenId; // jti - 이 claim이 생기기 전에 발급된 토큰은 null
+    private final Instant issuedAt;
+    private final Instant expiration;
+
+    // 서명은 맞아도 우리가 발급한 형태가 아니면 (userName / exp 없음) 잘못된 토큰으로
+    public static VerifiedClaims of(Claims claims) {
+        Object userName = claims.get("userName");
+        if (userName == null) {
+            throw new MalformedJwtException("userName claim이 없습니다.");
+        }
+        if (claims.getExpiration() == null) {
+            throw new MalformedJwtException("exp claim이 없습니다.");
+        }
+        return new VerifiedClaims(
+                userName.toString(),
+                claims.getId(),
+                claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant());
+    }
+
+    public boolean isExpired() {
+        return expiration.isBefore(Instant.now());
+    }
+}
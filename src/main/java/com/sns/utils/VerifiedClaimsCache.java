@@ -0,0 +1,81 @@
+package com.sns.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.ExpiredJwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 검증이 끝난 토큰의 claim 캐시 - 각 항목은 토큰의 exp 까지만 살아있음.
+ * 토큰 원문을 그대로 key로 들고 있지 않도록 key는 digest(...)로 만듭니다.
+ */
+public class VerifiedClaimsCache {
+
+    private final Cache<String, VerifiedClaims> cache;
+
+    public VerifiedClaimsCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, VerifiedClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedClaims value, long currentTime) {
+                        long remainMs = value.getExpiration().toEpochMilli() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainMs, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedClaims value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedClaims value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없으면 verifier로 검증해서 넣습니다.
+     *
+     * @throws io.jsonwebtoken.JwtException verifier가 던진 예외, 또는 캐시에 있던 토큰이 그 사이 만료된 경우
+     */
+    public VerifiedClaims get(String digest, Supplier<VerifiedClaims> verifier) {
+        VerifiedClaims cached = cache.getIfPresent(digest);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return cached;
+            }
+            cache.invalidate(digest);
+            throw new ExpiredJwtException(null, null, "토큰이 만료되었습니다.");
+        }
+
+        VerifiedClaims verified = verifier.get();
+        cache.put(digest, verified);
+        return verified;
+    }
+
+    // 각 값을 구분자(0)로 이어서 SHA-256
+    public static String digest(String... values) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    sha256.update((byte) 0);
+                }
+                sha256.update(values[i].getBytes(StandardCharsets.UTF_8));
+            }
+            return Base64.getEncoder().encodeToString(sha256.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * V2 ~ V5용 스키마 확인. Flyway 도입 전(ddl-auto: update) 중간 버전을 돌린 DB에는 이 테이블 / 컬럼 / 인덱스가 이미 있을 수 있어서,
+ * 없을 때만 만듭니다. MySQL은 create index / add column에 if not exists가 없으므로 DatabaseMetaData로 확인.
+ * 이름은 MySQL(소문자)과 H2(대문자) 모두 대소문자 구분 없이 비교합니다.
+ */
+class Schema {
+
+    private final Connection connection;
+    private final DatabaseMetaData metaData;
+
+    Schema(Connection connection) throws SQLException {
+        this.connection = connection;
+        this.metaData = connection.getMetaData();
+    }
+
+    boolean hasTable(String table) throws SQLException {
+        return tableName(table) != null;
+    }
+
+    boolean hasColumn(String table, String column) throws SQLException {
+        String tableName = tableName(table);
+        if (tableName == null) {
+            return false;
+        }
+        try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(), tableName, null)) {
+            return contains(columns, "COLUMN_NAME", column);
+        }
+    }
+
+    boolean hasIndex(String table, String index) throws SQLException {
+        String tableName = tableName(table);
+        if (tableName == null) {
+            return false;
+        }
+        try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName, false, true)) {
+            return contains(indexes, "INDEX_NAME", index);
+        }
+    }
+
+    void execute(String... sqls) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    // DB에 저장된 실제 이름 (H2는 대문자) - getColumns / getIndexInfo는 이름을 그대로 비교하므로
+    private String tableName(String table) throws SQLException {
+        try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), null, new String[]{"TABLE"})) {
+            while (tables.next()) {
+                String name = tables.getString("TABLE_NAME");
+                if (name.equalsIgnoreCase(table)) {
+                    return name;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean contains(ResultSet rows, String column, String name) throws SQLException {
+        while (rows.next()) {
+            if (name.equalsIgnoreCase(rows.getString(column))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
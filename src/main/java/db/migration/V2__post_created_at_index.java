@@ -0,0 +1,19 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 피드 keyset pagination: (created_at, id) 순서로 읽음.
+ * ddl-auto 시절 Post의 @Index로 이미 만들어졌을 수 있음 (V6에서 역순 인덱스로 교체).
+ */
+public class V2__post_created_at_index extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Schema schema = new Schema(context.getConnection());
+        if (!schema.hasIndex("post_entity", "idx_post_created_at_id")) {
+            schema.execute("create index idx_post_created_at_id on post_entity (created_at, id)");
+        }
+    }
+}
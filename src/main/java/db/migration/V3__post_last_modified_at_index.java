@@ -0,0 +1,19 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 피드 ETag / Last-Modified 계산 (max(last_modified_at)).
+ * ddl-auto 시절 Post의 @Index로 이미 만들어졌을 수 있음.
+ */
+public class V3__post_last_modified_at_index extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Schema schema = new Schema(context.getConnection());
+        if (!schema.hasIndex("post_entity", "idx_post_last_modified_at")) {
+            schema.execute("create index idx_post_last_modified_at on post_entity (last_modified_at)");
+        }
+    }
+}
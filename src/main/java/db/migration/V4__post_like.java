@@ -0,0 +1,33 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 좋아요 - 포스트별 좋아요 수는 PostLikeCounter가 모아서 like_count + delta로 반영.
+ * ddl-auto 시절에 컬럼 / 테이블(제약 조건 포함)이 이미 만들어졌을 수 있어서 없는 것만 만듦.
+ */
+public class V4__post_like extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Schema schema = new Schema(context.getConnection());
+        if (!schema.hasColumn("post_entity", "like_count")) {
+            schema.execute("alter table post_entity add column like_count bigint default 0 not null");
+        }
+        if (!schema.hasTable("post_like_entity")) {
+            schema.execute(
+                    "create table post_like_entity (" +
+                            "id bigint not null auto_increment, " +
+                            "created_at datetime(6), " +
+                            "post_id bigint not null, " +
+                            "user_id bigint not null, " +
+                            "primary key (id))",
+                    "alter table post_like_entity add constraint uk_post_like_post_user unique (post_id, user_id)",
+                    "alter table post_like_entity add constraint FK8qcsj5xi5upx9qmwwtaqbuhsb " +
+                            "foreign key (post_id) references post_entity (id) on delete cascade",
+                    "alter table post_like_entity add constraint FKhuvd6ht79ssstumg83f1dfayy " +
+                            "foreign key (user_id) references user_entity (id)");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 팔로우 - 팔로워 수는 follower_count로 같이 관리 (인기 계정 판단에 사용).
+ * ddl-auto 시절에 컬럼 / 테이블(제약 조건 포함) / 인덱스가 이미 만들어졌을 수 있어서 없는 것만 만듦.
+ */
+public class V5__follow extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Schema schema = new Schema(context.getConnection());
+        if (!schema.hasColumn("user_entity", "follower_count")) {
+            schema.execute("alter table user_entity add column follower_count bigint default 0 not null");
+        }
+        boolean created = !schema.hasTable("follow_entity");
+        if (created) {
+            schema.execute(
+                    "create table follow_entity (" +
+                            "id bigint not null auto_increment, " +
+                            "created_at datetime(6), " +
+                            "followee_id bigint not null, " +
+                            "follower_id bigint not null, " +
+                            "primary key (id))");
+        }
+        // FK보다 먼저 만들어야 MySQL이 followee_id FK용 인덱스를 따로 만들지 않음
+        if (!schema.hasIndex("follow_entity", "idx_follow_followee")) {
+            schema.execute("create index idx_follow_followee on follow_entity (followee_id)");
+        }
+        if (created) {
+            schema.execute(
+                    "alter table follow_entity add constraint uk_follow_follower_followee unique (follower_id, followee_id)",
+                    "alter table follow_entity add constraint FKg61egmwiv8kx74ub3xhj6nrmu " +
+                            "foreign key (followee_id) references user_entity (id)",
+                    "alter table follow_entity add constraint FKosm7n0r8efunkxaxxgif19jt9 " +
+                            "foreign key (follower_id) references user_entity (id)");
+        }
+    }
+}
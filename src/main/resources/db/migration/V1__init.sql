@@ -0,0 +1,27 @@
+-- Flyway 도입 전 hibernate.ddl-auto: update로 만들어진 스키마 그대로 (제약 조건 이름도 Hibernate가 만든 이름 유지)
+-- 이미 테이블이 있는 DB는 baseline-on-migrate로 이 버전을 건너뛰고 V2부터 적용하므로, 이후 변경은 여기에 넣지 않고 새 버전으로 추가
+-- MySQL과 테스트용 H2에서 모두 실행되도록 engine 등 MySQL 전용 구문은 쓰지 않음
+
+create table user_entity (
+    id bigint not null auto_increment,
+    deleted_at datetime(6),
+    password varchar(255),
+    registered_at datetime(6),
+    updated_at datetime(6),
+    user_name varchar(255),
+    user_role varchar(255),
+    primary key (id)
+);
+
+create table post_entity (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    last_modified_at datetime(6),
+    body varchar(255),
+    title varchar(255),
+    user_id bigint,
+    primary key (id)
+);
+
+alter table user_entity add constraint UK_9chx1dmnxuaapik68vwo6gvo7 unique (user_name);
+alter table post_entity add constraint FK2jmp42lmrw2f3ljd16f1re3c8 foreign key (user_id) references user_entity (id);
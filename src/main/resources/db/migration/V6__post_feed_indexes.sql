@@ -0,0 +1,8 @@
+-- 피드는 항상 (created_at, id) 역순으로 읽으므로 인덱스도 역순으로 (정렬 없이 인덱스 순서 그대로 limit만큼만 읽음)
+-- 전체 피드: 기존 (created_at, id) 인덱스를 역순 인덱스로 교체
+drop index idx_post_created_at_id on post_entity;
+create index idx_post_created_at_id on post_entity (created_at desc, id desc);
+
+-- 작성자별 피드 (GET /api/v1/users/{userName}/posts)
+-- MySQL은 FK용으로 자동으로 만든 user_id 인덱스를 이 인덱스로 대신하고 지움
+create index idx_post_user_created_at_id on post_entity (user_id, created_at desc, id desc);
@@ -0,0 +1,15 @@
+-- 로그아웃 / 강제 로그아웃으로 폐기된 토큰 (RevokedToken, TokenRevocationList)
+-- token_id는 강제 로그아웃 행에서 null (unique이지만 null은 여러 개 가능)
+create table revoked_token_entity (
+    id bigint not null auto_increment,
+    token_id varchar(64),
+    user_name varchar(255) not null,
+    issued_before datetime(6),
+    expires_at datetime(6) not null,
+    created_at datetime(6),
+    primary key (id)
+);
+
+alter table revoked_token_entity add constraint uk_revoked_token_token_id unique (token_id);
+-- 만료된 행 정리 (delete ... where expires_at < ?)와 메모리에 올릴 행 조회에 사용
+create index idx_revoked_token_expires_at on revoked_token_entity (expires_at);
@@ -0,0 +1,9 @@
+-- 피드 버전 카운터 - 삭제와 좋아요 수 반영은 max(id) / max(last_modified_at)를 바꾸지 않으므로 여기서 올림
+-- 행은 하나 (id = 1). 피드 ETag를 전체 행 집계(count / sum) 없이 인덱스만으로 만들기 위함
+create table feed_version (
+    id int not null,
+    version bigint not null,
+    primary key (id)
+);
+
+insert into feed_version (id, version) values (1, 0);
@@ -0,0 +1,101 @@
+package com.sns.cache;
+
+import com.sns.domain.dto.user.UserPrincipal;
+import com.sns.domain.entity.user.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+
+    // DB에 있는 role과 그 버전 (버전이 올라가면 role이 바뀐 것)
+    static class StoredRole {
+        final long version;
+        final UserRole role;
+
+        StoredRole(long version, UserRole role) {
+            this.version = version;
+            this.role = role;
+        }
+    }
+
+    /*
+        1. 통계
+         - hit / miss / eviction 카운트
+        2. 동시성
+         - invalidate 이후 읽기에서는 옛날 role이 나오지 않음
+     */
+
+    @Test
+    void 통계_카운트() {
+        PrincipalCache principalCache = new PrincipalCache(2, Duration.ofMinutes(5));
+
+        principalCache.get("a", name -> new UserPrincipal(name, UserRole.USER));
+        principalCache.get("a", name -> new UserPrincipal(name, UserRole.USER));
+        principalCache.get("b", name -> new UserPrincipal(name, UserRole.USER));
+        principalCache.get("c", name -> new UserPrincipal(name, UserRole.USER));
+
+        assertThat(principalCache.hitCount()).isEqualTo(1);
+        assertThat(principalCache.missCount()).isEqualTo(3);
+        assertThat(principalCache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 동시성_invalidate이후_옛날role없음() throws Exception {
+        PrincipalCache principalCache = new PrincipalCache(100, Duration.ofMinutes(5));
+        AtomicReference<StoredRole> db = new AtomicReference<>(new StoredRole(0, UserRole.USER));
+        ConcurrentHashMap<UserPrincipal, Long> versions = new ConcurrentHashMap<>();
+        AtomicInteger staleReads = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+        // 마지막으로 invalidate가 끝난 시점의 DB 버전
+        AtomicReference<Long> invalidatedVersion = new AtomicReference<>(0L);
+        Function<String, UserPrincipal> loader = name -> {
+            StoredRole stored = db.get();
+            UserPrincipal loaded = new UserPrincipal(name, stored.role);
+            versions.put(loaded, stored.version);
+            return loaded;
+        };
+
+        int readers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < readers; i++) {
+            futures.add(executor.submit(() -> {
+                while (running.get()) {
+                    long minVersion = invalidatedVersion.get();
+                    UserPrincipal principal = principalCache.get("userNameTest", loader);
+                    if (versions.get(principal) < minVersion) {
+                        staleReads.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        for (int version = 1; version <= 2_000; version++) {
+            UserRole role = version % 2 == 0 ? UserRole.USER : UserRole.ADMIN;
+            db.set(new StoredRole(version, role));      // 1. DB 변경
+            principalCache.invalidate("userNameTest");  // 2. 캐시 무효화
+            invalidatedVersion.set((long) version);
+
+            UserPrincipal principal = principalCache.get("userNameTest", loader);
+            assertThat(principal.getUserRole()).isEqualTo(role);
+        }
+
+        running.set(false);
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(staleReads.get()).isZero();
+    }
+}
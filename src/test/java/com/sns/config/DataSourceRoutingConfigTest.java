@@ -0,0 +1,75 @@
+package com.sns.config;
+
+import com.sns.domain.dto.post.PostCreateReq;
+import com.sns.domain.entity.user.User;
+import com.sns.repository.UserRepo;
+import com.sns.service.PostService;
+import com.sns.service.UserService;
+import com.sns.timeline.HomeTimeline;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * primary와 replica가 같은 H2 DB를 보게 해서 (복제 지연 0) 서비스 메서드가 어느 쪽으로 라우팅되는지만 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "datasource.routing.enabled=true",
+        "datasource.routing.replicas[0].url=jdbc:h2:mem:routing;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "datasource.routing.replicas[0].username=sa"
+})
+class DataSourceRoutingConfigTest {
+
+    @Autowired
+    RoutingDataSource routingDataSource;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    HomeTimeline homeTimeline;
+
+    @Autowired
+    UserRepo userRepo;
+
+    @Test
+    void readOnly서비스_replica() {
+        userRepo.save(User.builder().userName("routingUser").password("passwordTest").build());
+        long primaryBefore = routingDataSource.routeCount(RoutingDataSource.PRIMARY);
+        long replicaBefore = routingDataSource.routeCount("replica-0");
+
+        assertThat(userService.getUserByUserName("routingUser").getUserName()).isEqualTo("routingUser");
+
+        assertThat(routingDataSource.routeCount("replica-0")).isEqualTo(replicaBefore + 1);
+        assertThat(routingDataSource.routeCount(RoutingDataSource.PRIMARY)).isEqualTo(primaryBefore);
+    }
+
+    @Test
+    void 캐시에넣을값_primary() throws Exception {
+        userRepo.save(User.builder().userName("routingWriter").password("passwordTest").build());
+        Long postId = postService.write(new PostCreateReq("title", "body"), "routingWriter").getId();
+        assertThat(homeTimeline.awaitFanOut(Duration.ofSeconds(5))).isTrue(); // fan-out 스레드의 조회가 섞이지 않도록
+        long primaryBefore = routingDataSource.routeCount(RoutingDataSource.PRIMARY);
+        long replicaBefore = routingDataSource.routeCount("replica-0");
+
+        /* 1. 캐시 miss - readOnly 메서드여도 primary에서 읽어서 캐시에 넣음 */
+        assertThat(postService.get(postId).getTitle()).isEqualTo("title");
+
+        assertThat(routingDataSource.routeCount(RoutingDataSource.PRIMARY)).isEqualTo(primaryBefore + 1);
+        assertThat(routingDataSource.routeCount("replica-0")).isEqualTo(replicaBefore);
+
+        /* 2. 캐시 hit - connection을 잡지 않음 */
+        postService.get(postId);
+
+        assertThat(routingDataSource.routeCount(RoutingDataSource.PRIMARY)).isEqualTo(primaryBefore + 1);
+        assertThat(routingDataSource.routeCount("replica-0")).isEqualTo(replicaBefore);
+    }
+}
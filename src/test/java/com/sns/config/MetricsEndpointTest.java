@@ -0,0 +1,52 @@
+package com.sns.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMetrics
+class MetricsEndpointTest {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    /*
+        1. /actuator/prometheus
+         - route별 latency histogram (PostController, UserController)
+         - JwtFilter 타이머
+         - Hibernate 통계, 요청당 SQL 수
+         - HikariCP pool
+     */
+
+    @Test
+    void prometheus_스크랩() {
+        restTemplate.getForEntity("/api/v1/posts", String.class);
+        restTemplate.getForEntity("/api/v1/posts/1", String.class);
+        restTemplate.postForEntity("/api/v1/users/login", Map.of("userName", "none", "password", "none"), String.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String body = response.getBody();
+        assertThat(body).contains("http_server_requests_seconds_bucket{");
+        assertThat(body).containsPattern("http_server_requests_seconds_bucket\\{[^}]*uri=\"/api/v1/posts\"");
+        assertThat(body).containsPattern("http_server_requests_seconds_bucket\\{[^}]*uri=\"/api/v1/posts/\\{postId}\"");
+        assertThat(body).containsPattern("http_server_requests_seconds_count\\{[^}]*uri=\"/api/v1/users/login\"");
+        assertThat(body).containsPattern("jwt_filter_seconds_bucket\\{[^}]*result=\"anonymous\"");
+        assertThat(body).containsPattern("hibernate_statements_per_request_bucket\\{[^}]*uri=\"/api/v1/posts\"");
+        assertThat(body).contains("hibernate_statements_total");
+        assertThat(body).contains("hibernate_entities_loads_total");
+        assertThat(body).contains("hibernate_flushes_total");
+        assertThat(body).contains("hikaricp_connections_active");
+        assertThat(body).contains("cache_gets_total{cache=\"post\"");
+    }
+}
@@ -0,0 +1,66 @@
+package com.sns.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sns.domain.dto.user.UserLoginReq;
+import com.sns.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "rate-limit.rules[0].method=POST",
+        "rate-limit.rules[0].path=/api/v1/users/login",
+        "rate-limit.rules[0].capacity=2",
+        "rate-limit.rules[0].refill-per-second=0.01"
+})
+@AutoConfigureMockMvc
+class RateLimitFilterTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    /*
+        1. 익명 route (login) - IP 기준
+         - capacity 이후 429 + Retry-After, 다른 IP는 영향 없음
+     */
+
+    @Test
+    void 로그인_IP별제한() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(login("10.0.0.1"))
+                    .andExpect(status().is(ErrorCode.USERNAME_NOT_FOUND.getStatus().value()));
+        }
+
+        mockMvc.perform(login("10.0.0.1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.resultCode").value("ERROR"))
+                .andExpect(jsonPath("$.result.errorCode").value("TOO_MANY_REQUESTS"));
+
+        mockMvc.perform(login("10.0.0.2"))
+                .andExpect(status().is(ErrorCode.USERNAME_NOT_FOUND.getStatus().value()));
+    }
+
+    private MockHttpServletRequestBuilder login(String remoteAddr) throws Exception {
+        return post("/api/v1/users/login")
+                .with(request -> {
+                    request.setRemoteAddr(remoteAddr);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(new UserLoginReq("none", "none")));
+    }
+}
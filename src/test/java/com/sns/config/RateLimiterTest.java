@@ -0,0 +1,131 @@
+package com.sns.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    RateLimiter rateLimiter = new RateLimiter(1000, Duration.ofHours(1), clock::get);
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.destroy();
+    }
+
+    /*
+        1. token bucket
+         - capacity만큼 한 번에 허용, 그 다음은 거절 + 기다릴 시간
+         - 시간이 지나면 refill 속도만큼 다시 허용
+         - 동시에 요청해도 정확히 capacity만 허용
+        2. 메모리
+         - 가득 찬 bucket은 정리됨
+         - 상한을 넘었을 때 요청 스레드의 정리는 1초에 한 번만
+     */
+
+    @Test
+    void 버스트후_거절() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("user:a", 5, 1)).isZero();
+        }
+
+        long waitNanos = rateLimiter.tryAcquire("user:a", 5, 1);
+
+        assertThat(waitNanos).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(rateLimiter.tryAcquire("user:b", 5, 1)).isZero(); // 다른 사용자는 영향 없음
+    }
+
+    @Test
+    void 시간경과후_리필() {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("user:a", 5, 2);
+        }
+        assertThat(rateLimiter.tryAcquire("user:a", 5, 2)).isPositive();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500)); // 2개/초 -> 0.5초에 1개
+
+        assertThat(rateLimiter.tryAcquire("user:a", 5, 2)).isZero();
+        assertThat(rateLimiter.tryAcquire("user:a", 5, 2)).isPositive();
+    }
+
+    @Test
+    void 동시요청_capacity만허용() throws Exception {
+        int threads = 16;
+        int capacity = 100;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 50; i++) {
+                    if (rateLimiter.tryAcquire("user:a", capacity, 0.001) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(allowed.get()).isEqualTo(capacity);
+    }
+
+    @Test
+    void 가득찬버킷_정리() {
+        rateLimiter.tryAcquire("user:a", 5, 1);
+        rateLimiter.tryAcquire("user:b", 5, 1);
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("user:c", 5, 0.01);
+        }
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2)); // a, b는 다시 가득 참, c는 아직
+        rateLimiter.sweep();
+
+        assertThat(rateLimiter.size()).isEqualTo(1);
+        assertThat(rateLimiter.tryAcquire("user:c", 5, 0.01)).isPositive(); // c의 상태는 그대로
+    }
+
+    @Test
+    void 상한초과_정리는1초에한번() {
+        RateLimiter limited = new RateLimiter(2, Duration.ofHours(1), clock::get);
+        try {
+            // 10개/초, capacity 1 -> 0.1초 뒤에 가득 참
+            limited.tryAcquire("user:a", 1, 10);
+            limited.tryAcquire("user:b", 1, 10);
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+            limited.tryAcquire("user:c", 1, 10); // 상한 초과 - 처음이라 바로 정리, a와 b가 지워짐
+            assertThat(limited.size()).isEqualTo(1);
+
+            limited.tryAcquire("user:d", 1, 10);
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+            limited.tryAcquire("user:e", 1, 10); // 상한 초과지만 직전 정리가 0.2초 전
+            assertThat(limited.size()).isEqualTo(3);
+
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            limited.tryAcquire("user:f", 1, 10);
+            assertThat(limited.size()).isEqualTo(1);
+        } finally {
+            limited.destroy();
+        }
+    }
+}
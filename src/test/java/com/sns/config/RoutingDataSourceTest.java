@@ -0,0 +1,141 @@
+package com.sns.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(200);
+
+    RoutingDataSource routingDataSource;
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate readOnlyTransaction;
+    TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        setUp(List.of(h2("replica-0"), h2("replica-1")));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        SecurityContextHolder.clearContext();
+        routingDataSource.destroy();
+    }
+
+    /*
+        1. 라우팅
+         - readOnly 트랜잭션은 replica를 번갈아서, 쓰기 트랜잭션은 primary
+        2. read-your-writes
+         - 쓰기 직후 같은 사용자의 읽기는 primary, 다른 사용자는 replica, 시간이 지나면 다시 replica
+        3. health
+         - 연결 안 되는 replica는 빼고, 모두 안 되면 primary
+     */
+
+    @Test
+    void 읽기_replica_라운드로빈() {
+        List<String> targets = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            targets.add(readOnlyMarker());
+        }
+
+        assertThat(targets).containsExactly("replica-0", "replica-1", "replica-0", "replica-1");
+    }
+
+    @Test
+    void 쓰기_primary() {
+        String target = writeTransaction.execute(status -> marker());
+        assertThat(target).isEqualTo("primary");
+        assertThat(marker()).isEqualTo("primary"); // 트랜잭션 밖
+    }
+
+    @Test
+    void 쓰기직후_같은사용자_primary() throws Exception {
+        login("writer");
+        writeTransaction.execute(status -> jdbcTemplate.update("update marker set name = name"));
+
+        assertThat(readOnlyMarker()).isEqualTo("primary");
+
+        login("reader");
+        assertThat(readOnlyMarker()).startsWith("replica");
+
+        login("writer");
+        Thread.sleep(WINDOW.toMillis() * 2);
+        assertThat(readOnlyMarker()).startsWith("replica");
+    }
+
+    @Test
+    void replica장애_제외() throws Exception {
+        routingDataSource.destroy();
+        setUp(List.of(unreachable(), h2("replica-1")));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(readOnlyMarker()).isEqualTo("replica-1");
+        }
+        assertThat(routingDataSource.routeCount("replica-0")).isZero();
+    }
+
+    @Test
+    void replica전부장애_primary() throws Exception {
+        routingDataSource.destroy();
+        setUp(List.of(unreachable(), unreachable()));
+        routingDataSource.checkHealth();
+
+        assertThat(readOnlyMarker()).isEqualTo("primary");
+    }
+
+    private void setUp(List<DataSource> replicas) {
+        routingDataSource = new RoutingDataSource(h2("primary"), replicas, WINDOW, Duration.ofHours(1));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // DB마다 자기 이름을 넣어두고 어느 DB로 갔는지 확인
+    private DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table marker (name varchar(20))");
+        template.update("insert into marker values (?)", name);
+        return dataSource;
+    }
+
+    private DataSource unreachable() {
+        return new DriverManagerDataSource("jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", "");
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject("select name from marker", String.class);
+    }
+
+    private String readOnlyMarker() {
+        return readOnlyTransaction.execute(status -> marker());
+    }
+
+    private void login(String userName) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                userName, null, List.of(new SimpleGrantedAuthority("USER"))));
+    }
+}
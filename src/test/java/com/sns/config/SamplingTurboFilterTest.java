@@ -0,0 +1,65 @@
+package com.sns.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingTurboFilterTest {
+
+    LoggerContext loggerContext = new LoggerContext();
+
+    /*
+        1. 샘플링
+         - 비율 0이면 INFO 이하 버림, WARN 이상은 항상 통과
+         - isXxxEnabled() 확인(format 없음)과 설정 없는 logger는 건드리지 않음
+         - 가장 긴 prefix 설정이 적용됨
+         - 비율만큼 통과
+     */
+
+    @Test
+    void 비율0_INFO버림_WARN통과() {
+        SamplingTurboFilter filter = filter("org.hibernate.SQL=0");
+        Logger sql = loggerContext.getLogger("org.hibernate.SQL");
+
+        assertThat(filter.decide(null, sql, Level.DEBUG, "select 1", null, null)).isEqualTo(FilterReply.DENY);
+        assertThat(filter.decide(null, sql, Level.WARN, "select 1", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, sql, Level.DEBUG, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, loggerContext.getLogger("com.sns.service.PostService"), Level.INFO, "msg", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void 가장긴prefix적용() {
+        SamplingTurboFilter filter = filter("com.sns=0, com.sns.config.JwtFilter=1");
+
+        assertThat(filter.decide(null, loggerContext.getLogger("com.sns.config.JwtFilter"), Level.INFO, "msg", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, loggerContext.getLogger("com.sns.service.PostService"), Level.INFO, "msg", null, null))
+                .isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    void 비율만큼통과() {
+        SamplingTurboFilter filter = filter("org.hibernate.SQL=0.1");
+        Logger sql = loggerContext.getLogger("org.hibernate.SQL");
+
+        int passed = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.decide(null, sql, Level.DEBUG, "select 1", null, null) == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+
+        assertThat(passed).isBetween(9_000, 11_000);
+    }
+
+    private SamplingTurboFilter filter(String sample) {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.addSample(sample);
+        return filter;
+    }
+}
@@ -0,0 +1,149 @@
+package com.sns.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sns.domain.dto.post.PostCreateReq;
+import com.sns.domain.dto.post.PostDto;
+import com.sns.domain.entity.user.User;
+import com.sns.repository.UserRepo;
+import com.sns.service.PostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BinaryEncodingTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    UserRepo userRepo;
+
+    String userName;
+    Long postId;
+
+    @BeforeEach
+    void setUp() {
+        userName = "user-" + UUID.randomUUID();
+        userRepo.save(User.builder().userName(userName).password("passwordTest").build());
+        postId = postService.write(new PostCreateReq("title", "body"), userName).getId();
+    }
+
+    /*
+        1. Accept가 없거나 JSON이면 기존 JSON 그대로 (Page 메타데이터, 날짜 문자열)
+        2. Smile - 피드는 PageRes(pageable / sort 없음), 날짜는 epoch millis
+        3. CBOR - 상세, 에러 응답도 같은 encoding
+        4. 조건부 GET 응답은 Vary: Accept, ETag는 encoding마다 다름
+     */
+
+    @Test
+    void JSON_기존형태() throws Exception {
+        mockMvc.perform(get("/api/v1/posts?size=1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.result.pageable").exists())
+                .andExpect(jsonPath("$.result.content[0].createdAt").isString());
+    }
+
+    @Test
+    void Smile_피드() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/posts?size=1").accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode result = new ObjectMapper(new SmileFactory()).readTree(body).get("result");
+        assertThat(result.has("pageable")).isFalse();
+        assertThat(result.has("sort")).isFalse();
+        assertThat(result.get("size").asInt()).isEqualTo(1);
+        assertThat(result.get("hasNext").isBoolean()).isTrue();
+        assertThat(result.get("totalElements").asLong()).isPositive();
+        assertThat(result.get("content")).hasSize(1);
+        assertThat(result.get("content").get(0).get("createdAt").isIntegralNumber()).isTrue();
+    }
+
+    @Test
+    void CBOR_상세() throws Exception {
+        PostDto post = postService.get(postId);
+
+        byte[] body = mockMvc.perform(get("/api/v1/posts/" + postId).accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode root = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertThat(root.get("resultCode").asText()).isEqualTo("SUCCESS");
+        assertThat(root.get("result").get("title").asText()).isEqualTo("title");
+        assertThat(root.get("result").get("createdAt").asLong())
+                .isEqualTo(post.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    @Test
+    void CBOR_에러() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/posts/" + Long.MAX_VALUE).accept(CBOR))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode root = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertThat(root.get("resultCode").asText()).isEqualTo("ERROR");
+        assertThat(root.get("result").get("errorCode").asText()).isEqualTo("POST_NOT_FOUND");
+    }
+
+    @Test
+    void 조건부GET_encoding별ETag() throws Exception {
+        String json = etag(MediaType.APPLICATION_JSON);
+        String smile = etag(SMILE);
+        String cbor = etag(CBOR);
+
+        assertThat(json).isEqualTo(etag(MediaType.ALL));
+        assertThat(smile).isNotEqualTo(json);
+        assertThat(cbor).isNotEqualTo(json).isNotEqualTo(smile);
+
+        // JSON으로 받은 ETag로 CBOR를 요청하면 304가 아니라 CBOR 본문
+        mockMvc.perform(get("/api/v1/posts/" + postId).accept(CBOR).header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR));
+        mockMvc.perform(get("/api/v1/posts/" + postId).accept(CBOR).header(HttpHeaders.IF_NONE_MATCH, cbor))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void 조건부GET_VaryAccept() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/" + postId).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    private String etag(MediaType accept) throws Exception {
+        return mockMvc.perform(get("/api/v1/posts/" + postId).accept(accept))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
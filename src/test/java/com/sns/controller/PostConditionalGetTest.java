@@ -0,0 +1,137 @@
+package com.sns.controller;
+
+import com.sns.config.QueryCountInspector;
+import com.sns.domain.dto.post.PostCreateReq;
+import com.sns.domain.dto.post.PostUpdateReq;
+import com.sns.domain.entity.user.User;
+import com.sns.repository.UserRepo;
+import com.sns.service.PostService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PostConditionalGetTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    UserRepo userRepo;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+    String userName;
+
+    @BeforeEach
+    void setUp() {
+        userName = "user-" + UUID.randomUUID();
+        userRepo.save(User.builder().userName(userName).password("passwordTest").build());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /*
+        1. 포스트 하나
+         - 같은 ETag면 304, 버전이 캐시되어 있으면 SQL / 엔티티 로딩 없음
+         - 수정하면 다시 200 + 새 ETag
+        2. 피드
+         - 같은 ETag면 304, 새 글이 올라오면 200
+         - 최신 글이 아닌 글을 삭제해도 (max id / 수정 시각 그대로) 200
+         - 페이지가 다르면 ETag도 다름
+     */
+
+    @Test
+    void 포스트_304_DB조회없음() throws Exception {
+        Long postId = postService.write(new PostCreateReq("title", "body"), userName).getId();
+        String etag = etag(get("/api/v1/posts/" + postId));
+
+        statistics.clear();
+        QueryCountInspector.reset();
+        mockMvc.perform(get("/api/v1/posts/" + postId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        assertThat(QueryCountInspector.count()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void 포스트_수정후_200() throws Exception {
+        Long postId = postService.write(new PostCreateReq("title", "body"), userName).getId();
+        String etag = etag(get("/api/v1/posts/" + postId));
+
+        postService.update(postId, new PostUpdateReq("titleUpdate", "bodyUpdate"), userName);
+
+        String newEtag = mockMvc.perform(get("/api/v1/posts/" + postId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    void 피드_304_새글후200() throws Exception {
+        postService.write(new PostCreateReq("title", "body"), userName);
+        String etag = etag(get("/api/v1/posts").param("cursor", ""));
+
+        statistics.clear();
+        QueryCountInspector.reset();
+        mockMvc.perform(get("/api/v1/posts").param("cursor", "").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertThat(QueryCountInspector.count()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        postService.write(new PostCreateReq("title2", "body2"), userName);
+
+        mockMvc.perform(get("/api/v1/posts").param("cursor", "").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void 피드_삭제후200() throws Exception {
+        Long older = postService.write(new PostCreateReq("title", "body"), userName).getId();
+        postService.write(new PostCreateReq("title2", "body2"), userName);
+        String etag = etag(get("/api/v1/posts").param("cursor", ""));
+
+        postService.delete(older, userName);
+
+        mockMvc.perform(get("/api/v1/posts").param("cursor", "").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void 피드_페이지별ETag() throws Exception {
+        String first = etag(get("/api/v1/posts").param("page", "0"));
+        String second = etag(get("/api/v1/posts").param("page", "1"));
+
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    private String etag(RequestBuilder request) throws Exception {
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -1,13 +1,24 @@
 package com.sns.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sns.domain.dto.post.PostBulkCreateRes;
+import com.sns.domain.dto.post.PostBulkItemRes;
 import com.sns.domain.dto.post.PostCreateReq;
+import com.sns.domain.dto.post.PostBatchRes;
 import com.sns.domain.dto.post.PostDeleteReq;
 import com.sns.domain.dto.post.PostDto;
+import com.sns.domain.dto.post.PostSliceRes;
 import com.sns.domain.dto.post.PostUpdateReq;
+import com.sns.domain.dto.post.PostVersion;
 import com.sns.exception.AppException;
 import com.sns.exception.ErrorCode;
+import com.sns.service.PostBulkService;
+import com.sns.service.PostExportService;
+import com.sns.service.PostLikeService;
+import com.sns.service.PostSearchService;
 import com.sns.service.PostService;
+import com.sns.service.TimelineService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -16,9 +27,14 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -26,6 +42,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -38,9 +56,30 @@ class PostControllerTest {
     @MockBean
     PostService postService;
 
+    @MockBean
+    PostExportService postExportService;
+
+    @MockBean
+    PostBulkService postBulkService;
+
+    @MockBean
+    PostSearchService postSearchService;
+
+    @MockBean
+    PostLikeService postLikeService;
+
+    @MockBean
+    TimelineService timelineService;
+
     @Autowired
     ObjectMapper objectMapper;
 
+    @BeforeEach
+    void setUp() {
+        when(postService.getVersion(any())).thenReturn(new PostVersion("p1-1", 1000L));
+        when(postService.getFeedVersion()).thenReturn(new PostVersion("f1-1-1", -1));
+    }
+
     /*
         1. 등록(Create)
          - 성공
@@ -116,6 +155,53 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.result.message").value("잘못된 토큰입니다."));
     }
 
+    @Test
+    @WithMockUser
+    void 대량등록성공_JSON배열() throws Exception {
+        List<PostCreateReq> reqs = List.of(
+                new PostCreateReq("title1", "body1"),
+                new PostCreateReq("", "body2"));
+
+        when(postBulkService.write(any(), any()))
+                .thenReturn(new PostBulkCreateRes(1, 1, List.of(
+                        PostBulkItemRes.success(0, 10L),
+                        PostBulkItemRes.fail(1, "title이 비어있습니다."))));
+
+        mockMvc.perform(post("/api/v1/posts/bulk")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(reqs)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.created").value(1))
+                .andExpect(jsonPath("$.result.failed").value(1))
+                .andExpect(jsonPath("$.result.items[0].postId").value(10L))
+                .andExpect(jsonPath("$.result.items[1].error").value("title이 비어있습니다."));
+    }
+
+    @Test
+    @WithMockUser
+    void 대량등록성공_NDJSON() throws Exception {
+        when(postBulkService.write(any(), any()))
+                .thenAnswer(invocation -> {
+                    Iterator<PostCreateReq> reqs = invocation.getArgument(0);
+                    int count = 0;
+                    while (reqs.hasNext()) {
+                        reqs.next();
+                        count++;
+                    }
+                    return new PostBulkCreateRes(count, 0, List.of());
+                });
+
+        mockMvc.perform(post("/api/v1/posts/bulk")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\":\"t1\",\"body\":\"b1\"}\n{\"title\":\"t2\",\"body\":\"b2\"}\n"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.created").value(2));
+    }
+
     /*
         2. 읽기(Read)
          - 성공
@@ -147,6 +233,117 @@ class PostControllerTest {
 
     }
 
+    @Test
+    @WithMockUser
+    void 읽기_변경없음_304() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/1")
+                        .header("If-None-Match", "\"p1-1\"")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"p1-1\""))
+                .andExpect(header().string("Cache-Control", "no-cache, public"))
+                .andExpect(content().string(""));
+
+        verify(postService, never()).get(any());
+    }
+
+    @Test
+    @WithMockUser
+    void 커서목록성공() throws Exception {
+        PostDto postDto = PostDto.builder()
+                .id(1L)
+                .title("titleTest")
+                .userName("userNameTest")
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        when(postService.getPostSlice(eq(""), anyInt()))
+                .thenReturn(new PostSliceRes(List.of(postDto), 1, true, "nextCursorTest"));
+
+        mockMvc.perform(get("/api/v1/posts")
+                        .param("cursor", "")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.content[0].id").value(postDto.getId()))
+                .andExpect(jsonPath("$.result.hasNext").value(true))
+                .andExpect(jsonPath("$.result.nextCursor").value("nextCursorTest"))
+                .andExpect(jsonPath("$.result.totalElements").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser
+    void 커서목록실패_잘못된커서() throws Exception {
+        when(postService.getPostSlice(any(), anyInt()))
+                .thenThrow(new AppException(ErrorCode.INVALID_CURSOR, ErrorCode.INVALID_CURSOR.getMessage()));
+
+        mockMvc.perform(get("/api/v1/posts")
+                        .param("cursor", "broken")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().is(ErrorCode.INVALID_CURSOR.getStatus().value()))
+                .andExpect(jsonPath("$.resultCode").value("ERROR"))
+                .andExpect(jsonPath("$.result.errorCode").value("INVALID_CURSOR"));
+    }
+
+    @Test
+    @WithMockUser
+    void 검색성공() throws Exception {
+        PostDto postDto = PostDto.builder()
+                .id(1L)
+                .title("검색 titleTest")
+                .userName("userNameTest")
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        when(postSearchService.isIndexReady()).thenReturn(true);
+        when(postSearchService.search(eq("검색"), eq(null), anyInt()))
+                .thenReturn(new PostSliceRes(List.of(postDto), 1, false, null));
+
+        mockMvc.perform(get("/api/v1/posts/search")
+                        .param("q", "검색")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(PostController.SEARCH_PARTIAL_HEADER))
+                .andExpect(jsonPath("$.result.content[0].id").value(postDto.getId()))
+                .andExpect(jsonPath("$.result.hasNext").value(false));
+    }
+
+    @Test
+    @WithMockUser
+    void 검색_색인중_일부결과() throws Exception {
+        when(postSearchService.isIndexReady()).thenReturn(false);
+        when(postSearchService.search(eq("검색"), eq(null), anyInt()))
+                .thenReturn(new PostSliceRes(List.of(), 0, false, null));
+
+        mockMvc.perform(get("/api/v1/posts/search")
+                        .param("q", "검색")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(PostController.SEARCH_PARTIAL_HEADER, "true"));
+    }
+
+    @Test
+    @WithMockUser
+    void export성공() throws Exception {
+        when(postExportService.export(any()))
+                .thenAnswer(invocation -> {
+                    OutputStream out = invocation.getArgument(0);
+                    out.write("{\"id\":2}\n{\"id\":1}\n".getBytes());
+                    return 2L;
+                });
+
+        mockMvc.perform(get("/api/v1/posts/export")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":2}\n{\"id\":1}\n"));
+    }
+
     /*
         3. 수정(Update)
          - 성공
@@ -336,4 +533,82 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.result.message").value("DB에러"));;
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser
+    void 여러건조회성공() throws Exception {
+        PostBatchRes res = new PostBatchRes(List.of(
+                PostDto.builder().id(2L).title("second").build(),
+                PostDto.builder().id(1L).title("first").build()), List.of(3L));
+        when(postService.getBatch(List.of(2L, 3L, 1L))).thenReturn(res);
+
+        mockMvc.perform(get("/api/v1/posts/batch").param("ids", "2,3,1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("SUCCESS"))
+                .andExpect(jsonPath("$.result.posts[0].id").value(2L))
+                .andExpect(jsonPath("$.result.posts[1].id").value(1L))
+                .andExpect(jsonPath("$.result.missingIds[0]").value(3L));
+    }
+
+    /*
+        5. 좋아요(Like)
+         - 성공 (좋아요 / 취소)
+         - 실패
+          -- (포스트 없음)
+     */
+
+    @Test
+    @WithMockUser
+    void 좋아요성공() throws Exception {
+        mockMvc.perform(post("/api/v1/posts/1/likes")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("SUCCESS"))
+                .andExpect(jsonPath("$.result.postId").value(1L))
+                .andExpect(jsonPath("$.result.message").value("좋아요 완료"));
+        verify(postLikeService).like(eq(1L), any());
+
+        mockMvc.perform(delete("/api/v1/posts/1/likes")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.message").value("좋아요 취소 완료"));
+        verify(postLikeService).unlike(eq(1L), any());
+    }
+
+    @Test
+    @WithMockUser
+    void 좋아요실패_포스트없음() throws Exception {
+        doThrow(new AppException(ErrorCode.POST_NOT_FOUND, ErrorCode.POST_NOT_FOUND.getMessage()))
+                .when(postLikeService).like(any(), any());
+
+        mockMvc.perform(post("/api/v1/posts/1/likes")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().is(ErrorCode.POST_NOT_FOUND.getStatus().value()))
+                .andExpect(jsonPath("$.resultCode").value("ERROR"))
+                .andExpect(jsonPath("$.result.errorCode").value("POST_NOT_FOUND"));
+    }
+
+    /*
+        6. 홈 타임라인
+         - 성공
+     */
+
+    @Test
+    @WithMockUser(username = "me")
+    void 타임라인성공() throws Exception {
+        PostSliceRes res = new PostSliceRes(List.of(PostDto.builder().id(3L).title("title").userName("friend").build()), 1, true, "3");
+        when(timelineService.getTimeline(eq("me"), any(), anyInt())).thenReturn(res);
+
+        mockMvc.perform(get("/api/v1/posts/timeline").param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("SUCCESS"))
+                .andExpect(jsonPath("$.result.content[0].id").value(3L))
+                .andExpect(jsonPath("$.result.hasNext").value(true))
+                .andExpect(jsonPath("$.result.nextCursor").value("3"));
+    }
+}
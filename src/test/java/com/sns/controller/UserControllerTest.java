@@ -1,26 +1,47 @@
 package com.sns.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sns.domain.dto.post.PostDto;
+import com.sns.domain.dto.post.PostSliceRes;
 import com.sns.domain.dto.user.UserDto;
 import com.sns.domain.dto.user.UserJoinReq;
 import com.sns.domain.dto.user.UserLoginReq;
 import com.sns.exception.AppException;
 import com.sns.exception.ErrorCode;
+import com.sns.service.FollowService;
+import com.sns.service.PostService;
+import com.sns.utils.VerifiedClaims;
 import com.sns.service.UserService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
@@ -32,6 +53,12 @@ class UserControllerTest {
     @MockBean
     UserService userService;
 
+    @MockBean
+    FollowService followService;
+
+    @MockBean
+    PostService postService;
+
     @Autowired
     ObjectMapper objectMapper;
 
@@ -52,16 +79,20 @@ class UserControllerTest {
                 .build();
 
         when(userService.join(any()))
-                .thenReturn(UserDto.builder()
+                .thenReturn(CompletableFuture.completedFuture(UserDto.builder()
                         .id(0L)
                         .userName(req.getUserName())
                         .password(req.getPassword())
-                        .build());
+                        .build()));
 
-        mockMvc.perform(post("/api/v1/users/join")
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/users/join")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsBytes(req)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.resultCode").value("SUCCESS"))
@@ -98,6 +129,7 @@ class UserControllerTest {
          - 실패
           -- (userName 없음)
           -- (password 틀림)
+          -- (해싱 풀 포화)
      */
 
     @Test
@@ -110,12 +142,16 @@ class UserControllerTest {
                 .build();
 
         when(userService.login(any(), any()))
-                .thenReturn("token");
+                .thenReturn(CompletableFuture.completedFuture("token"));
 
-        mockMvc.perform(post("/api/v1/users/login")
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/users/login")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsBytes(req)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.resultCode").value("SUCCESS"))
@@ -154,17 +190,155 @@ class UserControllerTest {
                 .password("passwordTest")
                 .build();
 
+        // 비밀번호 검증은 해싱 풀에서 비동기로 실패함
         when(userService.login(any(), any()))
-                .thenThrow(new AppException(ErrorCode.INVALID_PASSWORD, ErrorCode.INVALID_PASSWORD.getMessage()));
+                .thenReturn(CompletableFuture.failedFuture(new AppException(ErrorCode.INVALID_PASSWORD, ErrorCode.INVALID_PASSWORD.getMessage())));
 
-        mockMvc.perform(post("/api/v1/users/login")
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/users/login")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsBytes(req)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andDo(print())
                 .andExpect(status().is(ErrorCode.INVALID_PASSWORD.getStatus().value()))
                 .andExpect(jsonPath("$.resultCode").value("ERROR"))
                 .andExpect(jsonPath("$.result.errorCode").value("INVALID_PASSWORD"))
                 .andExpect(jsonPath("$.result.message").value("패스워드가 잘못되었습니다."));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser
+    void 로그인실패_요청과다() throws Exception {
+        // 요청
+        UserLoginReq req = UserLoginReq.builder()
+                .userName("userNameTest")
+                .password("passwordTest")
+                .build();
+
+        when(userService.login(any(), any()))
+                .thenThrow(new AppException(ErrorCode.SERVER_BUSY, ErrorCode.SERVER_BUSY.getMessage()));
+
+        mockMvc.perform(post("/api/v1/users/login")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(req)))
+                .andDo(print())
+                .andExpect(status().is(ErrorCode.SERVER_BUSY.getStatus().value()))
+                .andExpect(jsonPath("$.resultCode").value("ERROR"))
+                .andExpect(jsonPath("$.result.errorCode").value("SERVER_BUSY"));
+    }
+
+    /*
+        3. 팔로우
+         - 성공 (팔로우 / 언팔로우)
+         - 실패
+          -- (자기 자신)
+    */
+
+    @Test
+    @WithMockUser(username = "me")
+    void 팔로우성공() throws Exception {
+        mockMvc.perform(post("/api/v1/users/friend/follow")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("SUCCESS"))
+                .andExpect(jsonPath("$.result.userName").value("friend"))
+                .andExpect(jsonPath("$.result.message").value("팔로우 완료"));
+        verify(followService).follow(eq("me"), eq("friend"));
+
+        mockMvc.perform(delete("/api/v1/users/friend/follow")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.message").value("언팔로우 완료"));
+        verify(followService).unfollow(eq("me"), eq("friend"));
+    }
+
+    @Test
+    @WithMockUser(username = "me")
+    void 팔로우실패_자기자신() throws Exception {
+        doThrow(new AppException(ErrorCode.INVALID_FOLLOW, ErrorCode.INVALID_FOLLOW.getMessage()))
+                .when(followService).follow(any(), any());
+
+        mockMvc.perform(post("/api/v1/users/me/follow")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().is(ErrorCode.INVALID_FOLLOW.getStatus().value()))
+                .andExpect(jsonPath("$.resultCode").value("ERROR"))
+                .andExpect(jsonPath("$.result.errorCode").value("INVALID_FOLLOW"));
+    }
+
+    /*
+        4. 작성자별 포스트
+         - 성공 (다음 페이지 커서)
+         - 실패
+          -- (사용자 없음)
+    */
+
+    @Test
+    @WithMockUser
+    void 작성자포스트성공() throws Exception {
+        PostSliceRes res = new PostSliceRes(List.of(PostDto.builder().id(2L).title("second").userName("friend").build()), 1, true, "next");
+        when(postService.getUserPostSlice("friend", "cursor", 1)).thenReturn(res);
+
+        mockMvc.perform(get("/api/v1/users/friend/posts")
+                        .param("cursor", "cursor")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("SUCCESS"))
+                .andExpect(jsonPath("$.result.content[0].id").value(2L))
+                .andExpect(jsonPath("$.result.content[0].userName").value("friend"))
+                .andExpect(jsonPath("$.result.nextCursor").value("next"));
+    }
+
+    @Test
+    @WithMockUser
+    void 작성자포스트실패_사용자없음() throws Exception {
+        when(postService.getUserPostSlice(any(), any(), anyInt()))
+                .thenThrow(new AppException(ErrorCode.USERNAME_NOT_FOUND, ErrorCode.USERNAME_NOT_FOUND.getMessage()));
+
+        mockMvc.perform(get("/api/v1/users/nobody/posts"))
+                .andDo(print())
+                .andExpect(status().is(ErrorCode.USERNAME_NOT_FOUND.getStatus().value()))
+                .andExpect(jsonPath("$.result.errorCode").value("USERNAME_NOT_FOUND"));
+    }
+
+    /*
+        5. 로그아웃 / 강제 로그아웃
+         - 성공 (요청에 쓴 토큰의 claim으로 폐기)
+         - 실패
+          -- (강제 로그아웃 대상 사용자 없음)
+    */
+
+    @Test
+    void 로그아웃성공() throws Exception {
+        VerifiedClaims claims = new VerifiedClaims("me", "token-id", Instant.now(), Instant.now().plusSeconds(60));
+
+        mockMvc.perform(post("/api/v1/users/logout")
+                        .with(csrf())
+                        .with(authentication(new UsernamePasswordAuthenticationToken("me", claims, List.of(new SimpleGrantedAuthority("USER"))))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.message").value("로그아웃 완료"))
+                .andExpect(jsonPath("$.result.userName").value("me"));
+        verify(userService).logout(claims);
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void 강제로그아웃실패_사용자없음() throws Exception {
+        doThrow(new AppException(ErrorCode.USERNAME_NOT_FOUND, ErrorCode.USERNAME_NOT_FOUND.getMessage()))
+                .when(userService).revokeTokens("nobody");
+
+        mockMvc.perform(post("/api/v1/users/nobody/revoke-tokens")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().is(ErrorCode.USERNAME_NOT_FOUND.getStatus().value()))
+                .andExpect(jsonPath("$.result.errorCode").value("USERNAME_NOT_FOUND"));
+    }
+}
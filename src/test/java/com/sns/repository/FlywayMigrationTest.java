@@ -0,0 +1,93 @@
+package com.sns.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlywayMigrationTest {
+
+    SimpleDriverDataSource dataSource;
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void 빈_DB는_V1부터_전부_적용() {
+        MigrateResult result = flyway().migrate();
+
+        assertThat(result.migrationsExecuted).isEqualTo(8);
+        assertThat(result.targetSchemaVersion).isEqualTo("8");
+    }
+
+    @Test
+    void Flyway_도입_전_DB는_baseline_후_V2부터_적용되고_데이터는_유지() throws Exception {
+        /* 1. ddl-auto: update로 만들어진 기존 DB (V1과 같은 스키마, flyway_schema_history 없음) */
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__init.sql"));
+        }
+        jdbcTemplate.update("insert into user_entity (user_name, password) values ('userName', 'password')");
+        jdbcTemplate.update("insert into post_entity (title, body, user_id) " +
+                "select 'title', 'body', id from user_entity where user_name = 'userName'");
+
+        /* 2. migrate */
+        MigrateResult result = flyway().migrate();
+
+        /* 3. V1은 baseline으로 건너뛰고 나머지는 모두 적용 */
+        assertThat(result.migrationsExecuted).isEqualTo(7);
+        assertThat(result.targetSchemaVersion).isEqualTo("8");
+        assertThat(jdbcTemplate.queryForObject("select like_count from post_entity", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select follower_count from user_entity", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from information_schema.indexes " +
+                "where index_name in ('IDX_POST_CREATED_AT_ID', 'IDX_POST_USER_CREATED_AT_ID', 'IDX_POST_LAST_MODIFIED_AT')", Long.class))
+                .isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from revoked_token_entity", Long.class)).isZero();
+    }
+
+    @Test
+    void Flyway_도입_전_중간버전_DB는_이미있는_테이블과_인덱스를_건너뜀() throws Exception {
+        /* 1. ddl-auto: update 시절 중간 커밋을 돌린 DB - V2 ~ V5의 일부가 이미 있음 */
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__init.sql"));
+        }
+        jdbcTemplate.execute("create index idx_post_created_at_id on post_entity (created_at, id)");
+        jdbcTemplate.execute("create index idx_post_last_modified_at on post_entity (last_modified_at)");
+        jdbcTemplate.execute("alter table post_entity add column like_count bigint default 0 not null");
+        jdbcTemplate.execute("create table post_like_entity (id bigint not null auto_increment, created_at datetime(6), " +
+                "post_id bigint not null, user_id bigint not null, primary key (id))");
+        jdbcTemplate.execute("alter table post_like_entity add constraint uk_post_like_post_user unique (post_id, user_id)");
+
+        /* 2. migrate */
+        MigrateResult result = flyway().migrate();
+
+        /* 3. 있는 것은 건너뛰고 없는 것(팔로우 등)만 만듦 */
+        assertThat(result.migrationsExecuted).isEqualTo(7);
+        assertThat(result.targetSchemaVersion).isEqualTo("8");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from follow_entity", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from information_schema.indexes " +
+                "where index_name in ('IDX_POST_CREATED_AT_ID', 'IDX_POST_USER_CREATED_AT_ID', 'IDX_POST_LAST_MODIFIED_AT', " +
+                "'IDX_FOLLOW_FOLLOWEE')", Long.class))
+                .isEqualTo(4);
+    }
+
+    private Flyway flyway() {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .load();
+    }
+}
@@ -0,0 +1,219 @@
+package com.sns.repository;
+
+import com.sns.domain.dto.post.PostDetailView;
+import com.sns.domain.dto.post.PostFeedView;
+import com.sns.config.QueryCountInspector;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sns.repository.PostRepoTest$LastSqlInspector")
+class PostRepoTest {
+
+    private static final int POST_COUNT = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int USER_COUNT = 10;
+
+    @Autowired
+    PostRepo postRepo;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into user_entity (user_name, password) " +
+                "select concat('userName', x), 'passwordTest' from system_range(1, " + USER_COUNT + ")");
+        // 3건씩 createdAt이 같도록 넣어서 id tie-breaker까지 검증, 작성자는 여러 명으로 분산
+        jdbcTemplate.update("insert into post_entity (title, body, created_at, last_modified_at, user_id) " +
+                "select concat('title', x), 'body', dateadd('SECOND', x / 3, timestamp '2022-12-20 00:00:00'), null, " +
+                "(select id from user_entity where user_name = concat('userName', mod(x, " + USER_COUNT + ") + 1)) " +
+                "from system_range(1, " + POST_COUNT + ")");
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    /*
+        1. 피드 projection
+         - 페이지당 select 1번 + count 1번 (작성자 수와 무관)
+         - 상세 조회 select 1번
+     */
+
+    @Test
+    void 피드_페이지당쿼리수() {
+        statistics.clear();
+
+        Page<PostFeedView> page = postRepo.findFeed(PageRequest.of(3, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).extracting(PostFeedView::getUserName).doesNotContainNull();
+        assertThat(page.getContent().stream().map(PostFeedView::getUserName).distinct().count()).isEqualTo(USER_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void 상세조회_쿼리수() {
+        Long postId = postRepo.findLatest(PageRequest.of(0, 1)).getContent().get(0).getId();
+        statistics.clear();
+
+        PostDetailView detail = postRepo.findDetailById(postId).orElseThrow();
+
+        assertThat(detail.getBody()).isEqualTo("body");
+        assertThat(detail.getUserName()).startsWith("userName");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    /*
+        2. 커서 페이징
+         - 전체 순회 시 누락/중복 없음
+         - 페이지마다 쿼리 1번 (count 쿼리 없음)
+         - 깊은 페이지도 첫 페이지와 비슷한 시간
+     */
+
+    @Test
+    void 커서페이징_전체순회() {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        Set<Long> seen = new HashSet<>();
+
+        Slice<PostFeedView> slice = postRepo.findLatest(pageable);
+        int pages = 1;
+        collect(slice, seen);
+        while (slice.hasNext()) {
+            PostFeedView last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            entityManager.clear();
+            statistics.clear();
+
+            slice = postRepo.findOlderThan(last.getCreatedAt(), last.getId(), pageable);
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(last.getCreatedAt()).isAfterOrEqualTo(slice.getContent().get(0).getCreatedAt());
+            collect(slice, seen);
+            pages++;
+        }
+
+        assertThat(seen).hasSize(POST_COUNT);
+        assertThat(pages).isEqualTo(POST_COUNT / PAGE_SIZE);
+    }
+
+    @Test
+    void 커서페이징_깊이에따른지연없음() {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        PostFeedView newest = postRepo.findLatest(PageRequest.of(0, 1)).getContent().get(0);
+        // 뒤에서 두 번째 페이지 직전 위치
+        PostFeedView deep = postRepo.findLatest(PageRequest.of(POST_COUNT / PAGE_SIZE - 2, PAGE_SIZE)).getContent().get(PAGE_SIZE - 1);
+
+        long shallowNanos = medianNanos(() -> postRepo.findOlderThan(newest.getCreatedAt(), newest.getId(), pageable));
+        long deepNanos = medianNanos(() -> postRepo.findOlderThan(deep.getCreatedAt(), deep.getId(), pageable));
+
+        // OFFSET 방식이라면 마지막 페이지 근처는 수백 배 느려짐
+        assertThat(deepNanos).isLessThan(shallowNanos * 3 + 5_000_000L);
+    }
+
+    /*
+        3. 작성자별 피드
+         - 전체 순회 시 그 작성자의 글만 누락/중복 없이, 페이지마다 쿼리 1번
+         - 실행 계획: 작성자 피드는 (user_id, created_at, id), 전체 피드는 (created_at, id) 인덱스 순서 그대로 (정렬 없음)
+     */
+
+    @Test
+    void 작성자피드_전체순회() {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        Set<Long> seen = new HashSet<>();
+
+        Slice<PostFeedView> slice = postRepo.findLatestByUserName("userName3", pageable);
+        collect(slice, seen);
+        while (slice.hasNext()) {
+            PostFeedView last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            entityManager.clear();
+            statistics.clear();
+
+            slice = postRepo.findOlderThanByUserName("userName3", last.getCreatedAt(), last.getId(), pageable);
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(slice.getContent()).extracting(PostFeedView::getUserName).containsOnly("userName3");
+            assertThat(last.getCreatedAt()).isAfterOrEqualTo(slice.getContent().get(0).getCreatedAt());
+            collect(slice, seen);
+        }
+
+        assertThat(seen).hasSize(POST_COUNT / USER_COUNT);
+    }
+
+    @Test
+    void 작성자피드_실행계획() {
+        PostFeedView cursor = postRepo.findLatestByUserName("userName3", PageRequest.of(5, PAGE_SIZE)).getContent().get(0);
+
+        postRepo.findOlderThanByUserName("userName3", cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, PAGE_SIZE));
+        String authorPlan = explainLastSql("userName3", cursor.getCreatedAt(), cursor.getCreatedAt(), cursor.getId(), PAGE_SIZE + 1);
+
+        postRepo.findOlderThan(cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, PAGE_SIZE));
+        String feedPlan = explainLastSql(cursor.getCreatedAt(), cursor.getCreatedAt(), cursor.getId(), PAGE_SIZE + 1);
+
+        // H2는 인덱스를 거꾸로 읽지 못해서 "index sorted"는 역순 인덱스 + 같은 order by일 때만 나옴
+        assertThat(authorPlan).containsIgnoringCase("idx_post_user_created_at_id").contains("index sorted");
+        assertThat(feedPlan).containsIgnoringCase("idx_post_created_at_id").contains("index sorted");
+    }
+
+    // 방금 실행한 SQL을 같은 파라미터(SQL의 ? 순서대로)로 EXPLAIN
+    private String explainLastSql(Object... parameters) {
+        return jdbcTemplate.queryForObject("explain " + LastSqlInspector.LAST_SQL.get(), String.class, parameters);
+    }
+
+    private void collect(Slice<PostFeedView> slice, Set<Long> seen) {
+        slice.forEach(post -> assertThat(seen.add(post.getId())).isTrue());
+    }
+
+    private long medianNanos(Runnable query) {
+        int rounds = 31;
+        long[] elapsed = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            entityManager.clear();
+            long start = System.nanoTime();
+            query.run();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[rounds / 2];
+    }
+
+    // 실행한 SQL을 기억해서 EXPLAIN에 씀 (쿼리 수 세는 것은 그대로)
+    public static class LastSqlInspector extends QueryCountInspector {
+
+        private static final long serialVersionUID = 1L;
+
+        static final ThreadLocal<String> LAST_SQL = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            LAST_SQL.set(sql);
+            return super.inspect(sql);
+        }
+    }
+}
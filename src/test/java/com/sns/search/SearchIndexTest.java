@@ -0,0 +1,134 @@
+package com.sns.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexTest {
+
+    /*
+        1. 토크나이저
+         - 영어는 소문자 단어, 한글은 bigram
+        2. 검색
+         - 한글 조사가 붙어도 검색됨
+         - BM25 - 드문 단어 / 제목에 나온 단어가 더 높은 순위
+         - 수정/삭제 반영
+         - 커서로 끝까지 넘기면 중복/누락 없음
+         - 삭제가 많아져서 정리된 뒤에도 결과 동일
+         - 수정만 반복해도 정리되어 doc 번호와 단어 수가 계속 늘지 않음
+     */
+
+    @Test
+    void 토크나이저() {
+        assertThat(Tokenizer.tokenize("Hello, Spring-Boot 2.7!"))
+                .containsExactly("hello", "spring", "boot", "2", "7");
+        assertThat(Tokenizer.tokenize("서울에서 JPA를 배움"))
+                .containsExactly("서울", "울에", "에서", "jpa", "를", "배움");
+    }
+
+    @Test
+    void 검색_한글() {
+        SearchIndex index = new SearchIndex();
+        index.index(1L, "서울에서 열린 모임", "좋았다");
+        index.index(2L, "부산 여행", "바다");
+
+        assertThat(postIds(index.search("서울", null, 10))).containsExactly(1L);
+        assertThat(postIds(index.search("여행", null, 10))).containsExactly(2L);
+        assertThat(index.search("제주", null, 10)).isEmpty();
+    }
+
+    @Test
+    void 검색_BM25순위() {
+        SearchIndex index = new SearchIndex();
+        index.index(1L, "spring", "common common common");
+        index.index(2L, "common", "spring");
+        index.index(3L, "common", "rare");
+        index.index(4L, "common", "nothing");
+
+        // 드문 단어(rare)가 들어간 문서가 흔한 단어만 있는 문서보다 위
+        assertThat(postIds(index.search("common rare", null, 10)).get(0)).isEqualTo(3L);
+        // 같은 단어라도 제목에 있으면 위
+        assertThat(postIds(index.search("spring", null, 10))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 검색_수정삭제() {
+        SearchIndex index = new SearchIndex();
+        index.index(1L, "java", "body");
+        index.index(2L, "java", "body");
+
+        index.index(1L, "kotlin", "body");
+        index.remove(2L);
+
+        assertThat(index.search("java", null, 10)).isEmpty();
+        assertThat(postIds(index.search("kotlin", null, 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.indexIfAbsent(1L, "java", "old")).isFalse();
+    }
+
+    @Test
+    void 검색_커서() {
+        SearchIndex index = new SearchIndex();
+        for (long postId = 1; postId <= 95; postId++) {
+            // 점수가 같은 문서가 여러 개 생기도록 길이를 5가지로만
+            index.index(postId, "title", "keyword " + "filler ".repeat((int) (postId % 5)));
+        }
+
+        List<Long> all = postIds(index.search("keyword", null, 1000));
+        List<Long> paged = new ArrayList<>();
+        SearchHit after = null;
+        while (true) {
+            List<SearchHit> hits = index.search("keyword", after, 10);
+            if (hits.isEmpty()) {
+                break;
+            }
+            paged.addAll(postIds(hits));
+            after = hits.get(hits.size() - 1);
+        }
+
+        assertThat(all).hasSize(95);
+        assertThat(paged).isEqualTo(all);
+    }
+
+    @Test
+    void 검색_삭제후정리() {
+        SearchIndex index = new SearchIndex();
+        for (long postId = 1; postId <= 3000; postId++) {
+            index.index(postId, "title" + postId, postId % 2 == 0 ? "even" : "odd");
+        }
+        for (long postId = 1; postId <= 2500; postId++) {
+            index.remove(postId);
+        }
+
+        assertThat(index.size()).isEqualTo(500);
+        assertThat(index.search("even", null, 1000)).hasSize(250);
+        assertThat(postIds(index.search("title3000", null, 10))).containsExactly(3000L);
+        assertThat(index.search("title1", null, 10)).isEmpty();
+    }
+
+    @Test
+    void 검색_수정반복후정리() {
+        SearchIndex index = new SearchIndex();
+        for (int round = 0; round < 100; round++) {
+            for (long postId = 1; postId <= 100; postId++) {
+                index.index(postId, "title" + postId, "round" + round + " common");
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(100);
+        assertThat(index.maxDoc()).isLessThan(2 * 1024 + 100);
+        assertThat(index.termCount()).isLessThan(100 + 1 + 2 * 1024 / 100 + 2);
+        assertThat(index.search("common", null, 1000)).hasSize(100);
+        assertThat(index.search("round99", null, 1000)).hasSize(100);
+        assertThat(index.search("round0", null, 1000)).isEmpty();
+        assertThat(postIds(index.search("title42", null, 10))).containsExactly(42L);
+    }
+
+    private List<Long> postIds(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getPostId).collect(Collectors.toList());
+    }
+}
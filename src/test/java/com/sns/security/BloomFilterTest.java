@@ -0,0 +1,50 @@
+package com.sns.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    /*
+        1. 넣은 key는 항상 true (false negative 없음)
+        2. 넣지 않은 key의 오탐 비율은 fpp 근처
+     */
+
+    @Test
+    void 넣은key_항상있음() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            keys.add(UUID.randomUUID().toString());
+        }
+        keys.forEach(filter::put);
+
+        assertThat(keys).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void 오탐비율() {
+        int n = 50_000;
+        BloomFilter filter = BloomFilter.create(n, 0.01);
+        for (int i = 0; i < n; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+        // 약 1.2 byte / key
+        assertThat(filter.sizeInBytes()).isLessThan(n * 2L);
+    }
+}
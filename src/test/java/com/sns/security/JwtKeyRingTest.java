@@ -0,0 +1,138 @@
+package com.sns.security;
+
+import com.sns.utils.JwtUtil;
+import com.sns.utils.VerifiedClaims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String LEGACY = "hello";
+    private static final String OLD = "b2xkLXNpZ25pbmcta2V5LWZvci1yb3RhdGlvbi10ZXN0";
+    private static final String NEW = "bmV3LXNpZ25pbmcta2V5LWZvci1yb3RhdGlvbi10ZXN0";
+
+    /*
+        1. 서명 - 맨 앞 key + kid 헤더, keys가 없으면 legacy secret (kid 없음)
+        2. 회전
+         - 새 key를 추가해도 예전 key로 발급된 토큰은 통과
+         - 목록에서 뺀 key로 발급된 토큰은 실패
+        3. kid 없는 토큰 - legacy secret으로 검증 (JwtUtil로 만든 토큰), legacy secret이 없으면 실패
+        4. 실패 - 모르는 kid, HS256이 아닌 alg, 만료
+        5. 설정 - key가 하나도 없으면 실패
+     */
+
+    @Test
+    void 서명_최신key() {
+        JwtKeyRing keyRing = new JwtKeyRing(LEGACY, keys("k2", NEW, "k1", OLD));
+
+        String token = keyRing.createToken("userNameTest", Duration.ofMinutes(1));
+
+        assertThat(keyId(token)).isEqualTo("k2");
+        VerifiedClaims claims = keyRing.verify(token);
+        assertThat(claims.getUserName()).isEqualTo("userNameTest");
+        assertThat(claims.getTokenId()).isNotBlank();
+        assertThat(keyRing.verify(token)).isSameAs(claims);
+    }
+
+    @Test
+    void 서명_legacy() {
+        JwtKeyRing keyRing = new JwtKeyRing(LEGACY, Map.of());
+
+        String token = keyRing.createToken("userNameTest", Duration.ofMinutes(1));
+
+        assertThat(keyId(token)).isNull();
+        assertThat(JwtUtil.getUserName(token, LEGACY)).isEqualTo("userNameTest");
+    }
+
+    @Test
+    void 회전() {
+        String oldToken = new JwtKeyRing(null, keys("k1", OLD)).createToken("userNameTest", Duration.ofMinutes(1));
+
+        JwtKeyRing rotated = new JwtKeyRing(null, keys("k2", NEW, "k1", OLD));
+        assertThat(rotated.verify(oldToken).getUserName()).isEqualTo("userNameTest");
+
+        JwtKeyRing retired = new JwtKeyRing(null, keys("k2", NEW));
+        assertThatThrownBy(() -> retired.verify(oldToken))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void kid없는토큰() {
+        String token = JwtUtil.createToken("userNameTest", LEGACY, 1000L * 60);
+
+        assertThat(new JwtKeyRing(LEGACY, keys("k1", NEW)).verify(token).getUserName()).isEqualTo("userNameTest");
+        assertThatThrownBy(() -> new JwtKeyRing(null, keys("k1", NEW)).verify(token))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void 실패_모르는kid() {
+        JwtKeyRing keyRing = new JwtKeyRing(LEGACY, keys("k1", NEW));
+        // legacy secret으로 서명했지만 kid를 붙인 토큰
+        String token = sign(SignatureAlgorithm.HS256, "unknown", LEGACY);
+
+        assertThatThrownBy(() -> keyRing.verify(token))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void 실패_다른alg() {
+        JwtKeyRing keyRing = new JwtKeyRing(LEGACY, keys("k1", NEW));
+        String token = sign(SignatureAlgorithm.HS512, "k1", NEW);
+
+        assertThatThrownBy(() -> keyRing.verify(token))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void 실패_만료() {
+        JwtKeyRing keyRing = new JwtKeyRing(LEGACY, keys("k1", NEW));
+        String token = keyRing.createToken("userNameTest", Duration.ofSeconds(-1));
+
+        assertThatThrownBy(() -> keyRing.verify(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void 설정실패_key없음() {
+        assertThatThrownBy(() -> new JwtKeyRing(null, Map.of()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new JwtKeyRing(LEGACY, keys("k1", " ")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static Map<String, String> keys(String... idAndSecrets) {
+        Map<String, String> keys = new LinkedHashMap<>();
+        for (int i = 0; i < idAndSecrets.length; i += 2) {
+            keys.put(idAndSecrets[i], idAndSecrets[i + 1]);
+        }
+        return keys;
+    }
+
+    private static String keyId(String token) {
+        // 서명 검증 없이 헤더만 읽음
+        String unsigned = token.substring(0, token.lastIndexOf('.') + 1);
+        return (String) Jwts.parser().parseClaimsJwt(unsigned).getHeader().get(JwsHeader.KEY_ID);
+    }
+
+    private static String sign(SignatureAlgorithm algorithm, String keyId, String secret) {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
+                .claim("userName", "userNameTest")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(algorithm, secret)
+                .compact();
+    }
+}
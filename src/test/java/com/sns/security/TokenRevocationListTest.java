@@ -0,0 +1,194 @@
+package com.sns.security;
+
+import com.sns.config.QueryCountInspector;
+import com.sns.domain.entity.user.RevokedToken;
+import com.sns.domain.entity.user.User;
+import com.sns.domain.entity.user.UserRole;
+import com.sns.repository.RevokedTokenRepo;
+import com.sns.repository.UserRepo;
+import com.sns.utils.JwtUtil;
+import com.sns.utils.VerifiedClaims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 테스트 설정의 jwt.revocation.refresh-interval = 1h (refresh()를 직접 호출)
+@SpringBootTest
+@AutoConfigureMockMvc
+class TokenRevocationListTest {
+
+    private static final String SECRET = "hello";
+
+    @Autowired
+    TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    RevokedTokenRepo revokedTokenRepo;
+
+    @Autowired
+    UserRepo userRepo;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    String userName;
+
+    @BeforeEach
+    void setUp() {
+        userName = newUser(UserRole.USER);
+    }
+
+    /*
+        1. 로그아웃 - 그 토큰만 폐기, 폐기되지 않은 토큰은 DB 조회 없음
+        2. 강제 로그아웃 - 그 전에 발급된 토큰 전부 폐기, 이후 발급된 토큰은 통과
+        3. 다른 인스턴스에서 폐기한 토큰은 refresh 후 반영
+        4. 원래 토큰이 만료된 행은 refresh 때 삭제
+        5. JwtFilter - 로그아웃한 토큰으로는 인증되지 않음, 강제 로그아웃은 관리자만
+     */
+
+    @Test
+    void 로그아웃_토큰만폐기() {
+        VerifiedClaims loggedOut = claims(userName, Instant.now());
+        VerifiedClaims other = claims(userName, Instant.now());
+
+        tokenRevocationList.revokeToken(loggedOut);
+        tokenRevocationList.revokeToken(loggedOut);
+
+        assertThat(tokenRevocationList.isRevoked(loggedOut)).isTrue();
+        assertThat(tokenRevocationList.isRevoked(other)).isFalse();
+        // refresh 후에도 그대로
+        tokenRevocationList.refresh();
+        assertThat(tokenRevocationList.isRevoked(loggedOut)).isTrue();
+    }
+
+    @Test
+    void 폐기안된토큰_DB조회없음() {
+        tokenRevocationList.revokeToken(claims(userName, Instant.now()));
+
+        QueryCountInspector.reset();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(tokenRevocationList.isRevoked(claims(userName, Instant.now()))).isFalse();
+        }
+        assertThat(QueryCountInspector.count()).isZero();
+    }
+
+    @Test
+    void 강제로그아웃() {
+        VerifiedClaims before = claims(userName, Instant.now().minusSeconds(60));
+        VerifiedClaims sameSecond = claims(userName, Instant.now());
+        VerifiedClaims otherUser = claims(newUser(UserRole.USER), Instant.now().minusSeconds(60));
+
+        tokenRevocationList.revokeUser(userName);
+        VerifiedClaims after = claims(userName, Instant.now().plusSeconds(2));
+
+        assertThat(tokenRevocationList.isRevoked(before)).isTrue();
+        assertThat(tokenRevocationList.isRevoked(sameSecond)).isTrue();
+        assertThat(tokenRevocationList.isRevoked(after)).isFalse();
+        assertThat(tokenRevocationList.isRevoked(otherUser)).isFalse();
+
+        tokenRevocationList.refresh();
+        assertThat(tokenRevocationList.isRevoked(before)).isTrue();
+        assertThat(tokenRevocationList.isRevoked(after)).isFalse();
+    }
+
+    @Test
+    void 다른인스턴스_refresh후반영() {
+        TokenRevocationList otherInstance = new TokenRevocationList(revokedTokenRepo, transactionManager,
+                Duration.ofHours(1), Duration.ofHours(1), 1000, 0.01);
+        otherInstance.afterSingletonsInstantiated();
+        try {
+            VerifiedClaims loggedOut = claims(userName, Instant.now().minusSeconds(60));
+            String forced = newUser(UserRole.USER);
+            VerifiedClaims forcedOut = claims(forced, Instant.now().minusSeconds(60));
+
+            tokenRevocationList.revokeToken(loggedOut);
+            tokenRevocationList.revokeUser(forced);
+            assertThat(otherInstance.isRevoked(loggedOut)).isFalse();
+            assertThat(otherInstance.isRevoked(forcedOut)).isFalse();
+
+            otherInstance.refresh();
+
+            assertThat(otherInstance.isRevoked(loggedOut)).isTrue();
+            assertThat(otherInstance.isRevoked(forcedOut)).isTrue();
+        } finally {
+            otherInstance.destroy();
+        }
+    }
+
+    @Test
+    void 만료된행_정리() {
+        String expiredTokenId = UUID.randomUUID().toString();
+        revokedTokenRepo.save(RevokedToken.builder()
+                .tokenId(expiredTokenId)
+                .userName(userName)
+                .expiresAt(LocalDateTime.now().minusSeconds(1))
+                .build());
+        VerifiedClaims live = claims(userName, Instant.now());
+        tokenRevocationList.revokeToken(live);
+
+        tokenRevocationList.refresh();
+
+        assertThat(revokedTokenRepo.existsByTokenId(expiredTokenId)).isFalse();
+        assertThat(revokedTokenRepo.existsByTokenId(live.getTokenId())).isTrue();
+    }
+
+    @Test
+    void 필터_로그아웃후인증안됨() throws Exception {
+        String token = JwtUtil.createToken(userName, SECRET, 1000L * 60);
+        String otherToken = JwtUtil.createToken(userName, SECRET, 1000L * 60);
+
+        mockMvc.perform(get("/api/v1/posts/timeline").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/users/logout").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/posts/timeline").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/posts/timeline").header(HttpHeaders.AUTHORIZATION, "Bearer " + otherToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void 필터_강제로그아웃은관리자만() throws Exception {
+        String token = JwtUtil.createToken(userName, SECRET, 1000L * 60);
+        String adminToken = JwtUtil.createToken(newUser(UserRole.ADMIN), SECRET, 1000L * 60);
+
+        mockMvc.perform(post("/api/v1/users/" + userName + "/revoke-tokens").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/v1/users/" + userName + "/revoke-tokens").header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/posts/timeline").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    private VerifiedClaims claims(String userName, Instant issuedAt) {
+        return new VerifiedClaims(userName, UUID.randomUUID().toString(), issuedAt, issuedAt.plus(Duration.ofHours(1)));
+    }
+
+    private String newUser(UserRole userRole) {
+        String name = "user-" + UUID.randomUUID();
+        userRepo.save(User.builder().userName(name).password("passwordTest").userRole(userRole).build());
+        return name;
+    }
+}
@@ -0,0 +1,61 @@
+package com.sns.service;
+
+import com.sns.exception.AppException;
+import com.sns.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    /*
+        1. 해싱 / 검증
+        2. 큐가 가득 차면 바로 SERVER_BUSY
+     */
+
+    @Test
+    void 해싱_검증() throws Exception {
+        PasswordHasher passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), 1, 4);
+
+        String encoded = passwordHasher.encode("passwordTest").get(5, TimeUnit.SECONDS);
+
+        assertThat(passwordHasher.matches("passwordTest", encoded).get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(passwordHasher.matches("wrong", encoded).get(5, TimeUnit.SECONDS)).isFalse();
+        passwordHasher.destroy();
+    }
+
+    @Test
+    void 큐포화_바로실패() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BCryptPasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        PasswordHasher passwordHasher = new PasswordHasher(blockingEncoder, 1, 1);
+
+        CompletableFuture<String> running = passwordHasher.encode("a");  // 스레드 점유
+        CompletableFuture<String> queued = passwordHasher.encode("b");   // 큐 1칸 점유
+
+        assertThatThrownBy(() -> passwordHasher.encode("c"))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.SERVER_BUSY);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isNotBlank();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotBlank();
+        passwordHasher.destroy();
+    }
+}
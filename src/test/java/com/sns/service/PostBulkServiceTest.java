@@ -0,0 +1,132 @@
+package com.sns.service;
+
+import com.sns.domain.dto.post.PostBulkCreateRes;
+import com.sns.domain.dto.post.PostBulkItemRes;
+import com.sns.domain.dto.post.PostCreateReq;
+import com.sns.domain.entity.user.User;
+import com.sns.exception.AppException;
+import com.sns.exception.ErrorCode;
+import com.sns.repository.PostBulkInserter;
+import com.sns.repository.PostRepo;
+import com.sns.repository.UserRepo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(properties = {"post.bulk.batch-size=7", "post.bulk.chunk-size=50"})
+class PostBulkServiceTest {
+
+    @Autowired
+    PostBulkService postBulkService;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    PostRepo postRepo;
+
+    @Autowired
+    UserRepo userRepo;
+
+    @SpyBean
+    PostBulkInserter postBulkInserter;
+
+    /*
+        1. 대량 등록
+         - 성공 (여러 chunk / batch에 걸쳐서 id가 순서대로 매핑됨)
+         - 잘못된 항목만 실패, 나머지는 등록
+         - 컬럼 길이 초과는 insert 전에 실패
+         - DB 제약 조건 위반은 chunk를 나눠 다시 시도해서 해당 항목만 실패
+         - 작성자 없음
+     */
+
+    @Test
+    void 대량등록성공_항목별결과() {
+        userRepo.save(User.builder().userName("bulkUser").password("passwordTest").build());
+        List<PostCreateReq> reqs = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            reqs.add(i % 40 == 39 ? new PostCreateReq(" ", "body") : new PostCreateReq("title" + i, "body" + i));
+        }
+
+        PostBulkCreateRes res = postBulkService.write(reqs.iterator(), "bulkUser");
+
+        assertThat(res.getCreated()).isEqualTo(117);
+        assertThat(res.getFailed()).isEqualTo(3);
+        assertThat(res.getItems()).extracting(PostBulkItemRes::getIndex).isSorted();
+        for (PostBulkItemRes item : res.getItems()) {
+            if (item.getIndex() % 40 == 39) {
+                assertThat(item.getError()).isEqualTo("title이 비어있습니다.");
+            } else {
+                assertThat(postService.get(item.getPostId()).getTitle()).isEqualTo("title" + item.getIndex());
+            }
+        }
+    }
+
+    @Test
+    void 대량등록_길이초과항목만실패() {
+        userRepo.save(User.builder().userName("bulkLengthUser").password("passwordTest").build());
+        String tooLong = "a".repeat(PostBulkService.MAX_LENGTH + 1);
+        List<PostCreateReq> reqs = List.of(
+                new PostCreateReq("title0", "body0"),
+                new PostCreateReq(tooLong, "body1"),
+                new PostCreateReq("title2", tooLong),
+                new PostCreateReq("a".repeat(PostBulkService.MAX_LENGTH), "body3"));
+
+        PostBulkCreateRes res = postBulkService.write(reqs.iterator(), "bulkLengthUser");
+
+        assertThat(res.getCreated()).isEqualTo(2);
+        assertThat(res.getItems()).extracting(PostBulkItemRes::getError)
+                .containsExactly(null, "title은 255자 이하여야 합니다.", "body는 255자 이하여야 합니다.", null);
+    }
+
+    @Test
+    void 대량등록_DB오류항목만실패() {
+        userRepo.save(User.builder().userName("bulkDbUser").password("passwordTest").build());
+        // "bad" 항목이 섞인 insert는 DB가 거부한다고 가정
+        doAnswer(invocation -> {
+            List<PostCreateReq> posts = invocation.getArgument(1);
+            if (posts.stream().anyMatch(post -> post.getTitle().equals("bad"))) {
+                throw new DataIntegrityViolationException("bad row");
+            }
+            return invocation.callRealMethod();
+        }).when(postBulkInserter).insert(any(), anyList(), any());
+        List<PostCreateReq> reqs = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            reqs.add(new PostCreateReq(i == 17 || i == 33 ? "bad" : "title" + i, "body" + i));
+        }
+
+        PostBulkCreateRes res = postBulkService.write(reqs.iterator(), "bulkDbUser");
+
+        assertThat(res.getCreated()).isEqualTo(48);
+        assertThat(res.getFailed()).isEqualTo(2);
+        assertThat(res.getItems()).extracting(PostBulkItemRes::getIndex).isSorted();
+        for (PostBulkItemRes item : res.getItems()) {
+            if (item.getIndex() == 17 || item.getIndex() == 33) {
+                assertThat(item.getError()).isEqualTo(ErrorCode.DATABASE_ERROR.getMessage());
+            } else {
+                assertThat(postService.get(item.getPostId()).getTitle()).isEqualTo("title" + item.getIndex());
+            }
+        }
+    }
+
+    @Test
+    void 대량등록실패_작성자없음() {
+        long before = postRepo.count();
+
+        assertThatThrownBy(() -> postBulkService.write(List.of(new PostCreateReq("t", "b")).iterator(), "nobody"))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.USERNAME_NOT_FOUND);
+        assertThat(postRepo.count()).isEqualTo(before);
+    }
+}
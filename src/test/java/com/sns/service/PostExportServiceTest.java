@@ -0,0 +1,99 @@
+package com.sns.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 1M건 / 작은 heap 확인: ./gradlew exportTest (rows=1,000,000, -Xmx128m)
+ */
+@SpringBootTest
+class PostExportServiceTest {
+
+    private static final int ROWS = Integer.getInteger("export.test.rows", 20_000);
+
+    @Autowired
+    PostExportService postExportService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        // 같은 context를 쓰는 다른 테스트가 남긴 포스트는 지우고 시작
+        jdbcTemplate.update("delete from post_entity");
+        jdbcTemplate.update("insert into user_entity (user_name, password) values ('exportUser', 'passwordTest')");
+        jdbcTemplate.update("insert into post_entity (title, body, created_at, last_modified_at, user_id) " +
+                "select concat('title', x), 'body', current_timestamp, current_timestamp, " +
+                "(select id from user_entity where user_name = 'exportUser') from system_range(1, " + ROWS + ")");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from post_entity");
+        jdbcTemplate.update("delete from user_entity where user_name = 'exportUser'");
+    }
+
+    /*
+        1. export
+         - 모든 행이 한 줄씩 (NDJSON)
+         - 출력은 바로 흘려보내고 모아두지 않음
+     */
+
+    @Test
+    void export_전체행() throws Exception {
+        CountingOutputStream out = new CountingOutputStream();
+
+        long exported = postExportService.export(out);
+
+        assertThat(exported).isEqualTo(ROWS);
+        assertThat(out.lines).isEqualTo(ROWS);
+    }
+
+    @Test
+    void export_NDJSON형식() throws Exception {
+        jdbcTemplate.update("delete from post_entity where id not in (select min(id) from post_entity)");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        postExportService.export(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(1);
+        JsonNode post = objectMapper.readTree(lines[0]);
+        assertThat(post.get("title").asText()).isEqualTo("title1");
+        assertThat(post.get("userName").asText()).isEqualTo("exportUser");
+    }
+
+    // 받은 바이트는 버리고 줄 수만 셈 - 테스트 쪽에서 메모리를 쓰지 않도록
+    static class CountingOutputStream extends OutputStream {
+        long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.sns.service;
+
+import com.sns.cache.PostCache;
+import com.sns.cache.PostLikeCounter;
+import com.sns.cache.PostVersionCache;
+import com.sns.config.QueryCountInspector;
+import com.sns.domain.dto.post.PostCreateReq;
+import com.sns.domain.entity.user.User;
+import com.sns.exception.AppException;
+import com.sns.exception.ErrorCode;
+import com.sns.repository.UserRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class PostLikeServiceTest {
+
+    @Autowired
+    PostLikeService postLikeService;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    PostLikeCounter postLikeCounter;
+
+    @Autowired
+    PostCache postCache;
+
+    @Autowired
+    PostVersionCache postVersionCache;
+
+    @Autowired
+    UserRepo userRepo;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    String userName;
+    Long postId;
+
+    @BeforeEach
+    void setUp() {
+        userName = newUser();
+        postId = postService.write(new PostCreateReq("title", "body"), userName).getId();
+    }
+
+    /*
+        1. 좋아요 / 취소
+         - 같은 사용자가 여러 번 눌러도 1
+         - 취소하면 0, 누른 적 없이 취소해도 성공
+         - 정상 경로는 쿼리 1번
+         - 포스트 / 사용자가 없으면 실패
+        2. 개수 반영
+         - flush 전에도 읽기(상세, 피드)에 포함
+         - flush 후 DB 값으로 옮겨지고 읽은 값은 그대로
+         - 동시에 여러 사용자가 눌러도 정확한 개수
+         - 종료(destroy) 시 남은 값 반영
+        3. 포스트 삭제 시 좋아요도 같이 삭제
+        4. 조건부 GET 버전
+         - 포스트 ETag는 flush 전(pending)에도, flush 후(DB 값)에도 바뀜
+         - 피드 ETag는 좋아요마다 바뀌지 않고, 어느 인스턴스든 flush하면 (feed_version) 바뀜
+     */
+
+    @Test
+    void 좋아요_중복() {
+        postLikeService.like(postId, userName);
+        postLikeService.like(postId, userName);
+
+        assertThat(postService.get(postId).getLikeCount()).isEqualTo(1);
+        assertThat(likeRows(postId)).isEqualTo(1);
+    }
+
+    @Test
+    void 좋아요_취소() {
+        postLikeService.like(postId, userName);
+        postLikeService.unlike(postId, userName);
+        postLikeService.unlike(postId, userName);
+
+        assertThat(postService.get(postId).getLikeCount()).isZero();
+        assertThat(likeRows(postId)).isZero();
+    }
+
+    @Test
+    void 좋아요_쿼리1번() {
+        QueryCountInspector.reset();
+        postLikeService.like(postId, userName);
+        assertThat(QueryCountInspector.count()).isEqualTo(1);
+
+        QueryCountInspector.reset();
+        postLikeService.unlike(postId, userName);
+        assertThat(QueryCountInspector.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 좋아요실패_포스트없음() {
+        assertThatThrownBy(() -> postLikeService.like(Long.MAX_VALUE, userName))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.POST_NOT_FOUND);
+        assertThatThrownBy(() -> postLikeService.unlike(Long.MAX_VALUE, userName))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.POST_NOT_FOUND);
+    }
+
+    @Test
+    void 좋아요실패_사용자없음() {
+        assertThatThrownBy(() -> postLikeService.like(postId, "nobody-" + UUID.randomUUID()))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.USERNAME_NOT_FOUND);
+    }
+
+    @Test
+    void 개수_flush전후() {
+        postLikeService.like(postId, userName);
+        postLikeService.like(postId, newUser());
+
+        assertThat(persistedLikeCount(postId)).isZero();
+        assertThat(postService.get(postId).getLikeCount()).isEqualTo(2);
+        assertThat(postService.getPostSlice(null, 100).getContent())
+                .filteredOn(post -> post.getId().equals(postId))
+                .extracting("likeCount").containsExactly(2L);
+
+        postLikeCounter.flush();
+
+        assertThat(persistedLikeCount(postId)).isEqualTo(2);
+        assertThat(postLikeCounter.pending(postId)).isZero();
+        assertThat(postService.get(postId).getLikeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 개수_동시에좋아요() throws Exception {
+        int users = 64;
+        List<String> userNames = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            userNames.add(newUser());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String name : userNames) {
+                // 같은 사용자가 두 번씩 눌러도 한 번만 세어짐
+                futures.add(executor.submit(() -> postLikeService.like(postId, name)));
+                futures.add(executor.submit(() -> postLikeService.like(postId, name)));
+                futures.add(executor.submit(postLikeCounter::flush));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(postService.get(postId).getLikeCount()).isEqualTo(users);
+        postLikeCounter.flush();
+        assertThat(persistedLikeCount(postId)).isEqualTo(users);
+    }
+
+    @Test
+    void 개수_종료시flush() throws Exception {
+        PostLikeCounter counter = new PostLikeCounter(jdbcTemplate, transactionManager, postCache, postVersionCache, Duration.ofHours(1), 500, 4);
+        counter.increment(postId);
+        counter.increment(postId);
+        counter.decrement(postId);
+        counter.increment(postId);
+
+        counter.destroy();
+
+        assertThat(persistedLikeCount(postId)).isEqualTo(2);
+        assertThat(counter.pending(postId)).isZero();
+    }
+
+    @Test
+    void 버전_포스트() {
+        String before = postService.getVersion(postId).getEtag();
+
+        postLikeService.like(postId, userName);
+        String pending = postService.getVersion(postId).getEtag();
+
+        postLikeCounter.flush();
+        String flushed = postService.getVersion(postId).getEtag();
+
+        assertThat(pending).isNotEqualTo(before);
+        assertThat(flushed).isNotEqualTo(before);
+    }
+
+    @Test
+    void 버전_피드() {
+        String before = postService.getFeedVersion().getEtag();
+
+        postLikeService.like(postId, userName);
+        assertThat(postService.getFeedVersion().getEtag()).isEqualTo(before);
+
+        postLikeCounter.flush();
+        String flushed = postService.getFeedVersion().getEtag();
+        assertThat(flushed).isNotEqualTo(before);
+
+        // 다른 인스턴스의 flush - feed-ttl이 지나 버전을 다시 읽으면 반영
+        jdbcTemplate.update("update post_entity set like_count = like_count + 1 where id = ?", postId);
+        jdbcTemplate.update("update feed_version set version = version + 1 where id = 1");
+        postVersionCache.invalidateFeed();
+        assertThat(postService.getFeedVersion().getEtag()).isNotEqualTo(flushed);
+    }
+
+    @Test
+    void 포스트삭제시_좋아요삭제() {
+        postLikeService.like(postId, userName);
+        postLikeCounter.flush();
+
+        postService.delete(postId, userName);
+
+        assertThat(likeRows(postId)).isZero();
+        assertThatThrownBy(() -> postService.get(postId))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.POST_NOT_FOUND);
+    }
+
+    private String newUser() {
+        String name = "user-" + UUID.randomUUID();
+        userRepo.save(User.builder().userName(name).password("passwordTest").build());
+        return name;
+    }
+
+    private long persistedLikeCount(Long postId) {
+        return jdbcTemplate.queryForObject("select like_count from post_entity where id = ?", Long.class, postId);
+    }
+
+    private int likeRows(Long postId) {
+        return jdbcTemplate.queryForObject("select count(*) from post_like_entity where post_id = ?", Integer.class, postId);
+    }
+}
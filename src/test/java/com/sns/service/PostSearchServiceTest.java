@@ -0,0 +1,94 @@
+package com.sns.service;
+
+import com.sns.domain.dto.post.PostCreateReq;
+import com.sns.domain.dto.post.PostDto;
+import com.sns.domain.dto.post.PostSliceRes;
+import com.sns.domain.dto.post.PostUpdateReq;
+import com.sns.domain.entity.user.User;
+import com.sns.repository.UserRepo;
+import com.sns.search.PostSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PostSearchServiceTest {
+
+    @Autowired
+    PostSearchService postSearchService;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    PostSearchIndex postSearchIndex;
+
+    @Autowired
+    UserRepo userRepo;
+
+    String userName;
+    String keyword;
+
+    @BeforeEach
+    void setUp() {
+        userName = "user-" + UUID.randomUUID();
+        userRepo.save(User.builder().userName(userName).password("passwordTest").build());
+        keyword = "kw" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    /*
+        1. 등록/수정/삭제가 바로 검색에 반영
+        2. 커서로 끝까지 넘기기
+        3. 시작 시 전체 색인은 백그라운드에서 끝남
+     */
+
+    @Test
+    void 시작시색인_백그라운드() throws Exception {
+        assertThat(postSearchIndex.awaitReady(Duration.ofSeconds(10))).isTrue();
+        assertThat(postSearchService.isIndexReady()).isTrue();
+    }
+
+    @Test
+    void 검색_변경반영() {
+        Long postId = postService.write(new PostCreateReq(keyword + " 제목", "본문"), userName).getId();
+        assertThat(ids(postSearchService.search(keyword, null, 20))).containsExactly(postId);
+
+        postService.update(postId, new PostUpdateReq("새 제목", "본문"), userName);
+        assertThat(postSearchService.search(keyword, null, 20).getContent()).isEmpty();
+        assertThat(ids(postSearchService.search("새 제목", null, 20))).contains(postId);
+
+        postService.delete(postId, userName);
+        assertThat(ids(postSearchService.search("새 제목", null, 20))).doesNotContain(postId);
+    }
+
+    @Test
+    void 검색_커서() {
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            postIds.add(postService.write(new PostCreateReq("title" + i, keyword), userName).getId());
+        }
+
+        List<Long> found = new ArrayList<>();
+        String cursor = null;
+        do {
+            PostSliceRes slice = postSearchService.search(keyword, cursor, 10);
+            found.addAll(ids(slice));
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(found).hasSize(25).containsExactlyInAnyOrderElementsOf(postIds);
+    }
+
+    private List<Long> ids(PostSliceRes slice) {
+        return slice.getContent().stream().map(PostDto::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,284 @@
+package com.sns.service;
+
+import com.sns.cache.PostCache;
+import com.sns.config.QueryCountInspector;
+import com.sns.domain.dto.post.PostBatchRes;
+import com.sns.domain.dto.post.PostCreateReq;
+import com.sns.domain.dto.post.PostDto;
+import com.sns.domain.dto.post.PostSliceRes;
+import com.sns.domain.dto.post.PostUpdateReq;
+import com.sns.domain.entity.user.User;
+import com.sns.exception.AppException;
+import com.sns.exception.ErrorCode;
+import com.sns.repository.UserRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class PostServiceTest {
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    PostCache postCache;
+
+    @Autowired
+    UserRepo userRepo;
+
+    String userName;
+
+    @BeforeEach
+    void setUp() {
+        userName = "user-" + UUID.randomUUID();
+        userRepo.save(User.builder().userName(userName).password("passwordTest").build());
+    }
+
+    /*
+        1. 캐시
+         - 수정 후 읽기는 항상 수정된 값
+         - 삭제 후 읽기는 POST_NOT_FOUND
+         - 동시에 읽는 중에도 수정 이전 값이 나오지 않음
+     */
+
+    @Test
+    void 캐시_수정후읽기() {
+        Long postId = postService.write(new PostCreateReq("title", "body"), userName).getId();
+        postService.get(postId);
+        postService.get(postId);
+        assertThat(postCache.stats().hitCount()).isPositive();
+
+        postService.update(postId, new PostUpdateReq("titleUpdate", "bodyUpdate"), userName);
+
+        PostDto postDto = postService.get(postId);
+        assertThat(postDto.getTitle()).isEqualTo("titleUpdate");
+        assertThat(postDto.getBody()).isEqualTo("bodyUpdate");
+    }
+
+    @Test
+    void 캐시_삭제후읽기() {
+        Long postId = postService.write(new PostCreateReq("title", "body"), userName).getId();
+        postService.get(postId);
+
+        postService.delete(postId, userName);
+
+        assertThatThrownBy(() -> postService.get(postId))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.POST_NOT_FOUND);
+    }
+
+    @Test
+    void 캐시_동시읽기중수정() throws Exception {
+        Long postId = postService.write(new PostCreateReq("0", "body"), userName).getId();
+        AtomicLong committedVersion = new AtomicLong();
+        AtomicInteger staleReads = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        int readers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < readers; i++) {
+            futures.add(executor.submit(() -> {
+                while (running.get()) {
+                    long minVersion = committedVersion.get();
+                    long readVersion = Long.parseLong(postService.get(postId).getTitle());
+                    if (readVersion < minVersion) {
+                        staleReads.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        for (long version = 1; version <= 200; version++) {
+            postService.update(postId, new PostUpdateReq(String.valueOf(version), "body"), userName);
+            committedVersion.set(version);
+            assertThat(postService.get(postId).getTitle()).isEqualTo(String.valueOf(version));
+        }
+
+        running.set(false);
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(staleReads.get()).isZero();
+    }
+
+    /*
+        2. 수정/삭제 - 권한 확인과 변경을 한 문장으로
+         - 정상 수정은 SQL 1번, 삭제는 피드 버전(feed_version) 증가까지 2번
+         - 0건이면 원인에 맞는 에러 (POST_NOT_FOUND / INVALID_PERMISSION), 데이터는 그대로
+     */
+
+    @Test
+    void 수정_쿼리1번() {
+        Long postId = postService.write(new PostCreateReq("title", "body"), userName).getId();
+
+        QueryCountInspector.reset();
+        PostDto postDto = postService.update(postId, new PostUpdateReq("titleUpdate", "bodyUpdate"), userName);
+
+        assertThat(QueryCountInspector.count()).isEqualTo(1);
+        assertThat(postDto.getId()).isEqualTo(postId);
+        assertThat(postService.get(postId).getTitle()).isEqualTo("titleUpdate");
+    }
+
+    @Test
+    void 삭제_쿼리2번() {
+        Long postId = postService.write(new PostCreateReq("title", "body"), userName).getId();
+
+        QueryCountInspector.reset();
+        postService.delete(postId, userName);
+
+        assertThat(QueryCountInspector.count()).isEqualTo(2);
+        assertThatThrownBy(() -> postService.get(postId))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.POST_NOT_FOUND);
+    }
+
+    @Test
+    void 수정_포스트없음() {
+        assertThatThrownBy(() -> postService.update(Long.MAX_VALUE, new PostUpdateReq("titleUpdate", "bodyUpdate"), userName))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.POST_NOT_FOUND);
+    }
+
+    @Test
+    void 수정_작성자불일치() {
+        Long postId = postService.write(new PostCreateReq("title", "body"), userName).getId();
+        String otherUserName = "user-" + UUID.randomUUID();
+        userRepo.save(User.builder().userName(otherUserName).password("passwordTest").build());
+
+        assertThatThrownBy(() -> postService.update(postId, new PostUpdateReq("titleUpdate", "bodyUpdate"), otherUserName))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_PERMISSION);
+        assertThat(postService.get(postId).getTitle()).isEqualTo("title");
+    }
+
+    @Test
+    void 삭제_작성자불일치() {
+        Long postId = postService.write(new PostCreateReq("title", "body"), userName).getId();
+        String otherUserName = "user-" + UUID.randomUUID();
+        userRepo.save(User.builder().userName(otherUserName).password("passwordTest").build());
+
+        assertThatThrownBy(() -> postService.delete(postId, otherUserName))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_PERMISSION);
+        assertThat(postService.get(postId).getTitle()).isEqualTo("title");
+    }
+
+    @Test
+    void 삭제_사용자없음() {
+        Long postId = postService.write(new PostCreateReq("title", "body"), userName).getId();
+
+        assertThatThrownBy(() -> postService.delete(postId, "user-" + UUID.randomUUID()))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.USERNAME_NOT_FOUND);
+    }
+
+    /*
+        3. 여러 건 조회
+         - 요청한 순서대로, 없는 id는 missingIds로
+         - 건수와 상관없이 SQL 1번, 모두 캐시에 있으면 0번
+         - 최대 건수 초과는 실패
+     */
+
+    @Test
+    void 여러건_순서_없는id() {
+        Long first = postService.write(new PostCreateReq("first", "body"), userName).getId();
+        Long second = postService.write(new PostCreateReq("second", "body"), userName).getId();
+        postService.get(second); // 캐시에 있는 것과 없는 것을 섞음
+
+        PostBatchRes res = postService.getBatch(List.of(second, Long.MAX_VALUE, first, second));
+
+        assertThat(res.getPosts()).extracting("id").containsExactly(second, first);
+        assertThat(res.getPosts()).extracting("title").containsExactly("second", "first");
+        assertThat(res.getPosts()).extracting("userName").containsOnly(userName);
+        assertThat(res.getMissingIds()).containsExactly(Long.MAX_VALUE);
+    }
+
+    @Test
+    void 여러건_쿼리1번() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(postService.write(new PostCreateReq("title" + i, "body"), userName).getId());
+        }
+        ids.subList(0, 30).forEach(postService::get);
+
+        QueryCountInspector.reset();
+        PostBatchRes res = postService.getBatch(ids);
+        assertThat(QueryCountInspector.count()).isEqualTo(1);
+        assertThat(res.getPosts()).hasSize(100);
+
+        QueryCountInspector.reset();
+        postService.getBatch(ids.subList(0, 30));
+        assertThat(QueryCountInspector.count()).isZero();
+    }
+
+    @Test
+    void 여러건_최대건수초과() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 101; id++) {
+            ids.add(id);
+        }
+
+        assertThatThrownBy(() -> postService.getBatch(ids))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_BATCH_SIZE);
+    }
+
+    /*
+        4. 작성자별 포스트
+         - 그 작성자의 글만 최신순, 커서로 끝까지 넘기면 중복/누락 없음, 페이지마다 쿼리 1번
+         - 글이 없으면 빈 페이지, 사용자가 없으면 실패
+     */
+
+    @Test
+    void 작성자포스트_커서() {
+        String other = "other-" + UUID.randomUUID();
+        userRepo.save(User.builder().userName(other).password("passwordTest").build());
+        List<Long> written = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            written.add(postService.write(new PostCreateReq("title" + i, "body"), userName).getId());
+            postService.write(new PostCreateReq("other" + i, "body"), other);
+        }
+
+        List<Long> read = new ArrayList<>();
+        String cursor = null;
+        do {
+            QueryCountInspector.reset();
+            PostSliceRes page = postService.getUserPostSlice(userName, cursor, 3);
+            assertThat(QueryCountInspector.count()).isEqualTo(1);
+            assertThat(page.getContent()).extracting("userName").containsOnly(userName);
+            page.getContent().forEach(post -> read.add(post.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(read).hasSize(written.size()).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(read).containsExactlyInAnyOrderElementsOf(written);
+    }
+
+    @Test
+    void 작성자포스트_글없음_사용자없음() {
+        assertThat(postService.getUserPostSlice(userName, null, 20).getContent()).isEmpty();
+
+        assertThatThrownBy(() -> postService.getUserPostSlice("nobody-" + UUID.randomUUID(), null, 20))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.USERNAME_NOT_FOUND);
+    }
+}
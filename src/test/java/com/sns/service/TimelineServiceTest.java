@@ -0,0 +1,199 @@
+package com.sns.service;
+
+import com.sns.domain.dto.post.PostCreateReq;
+import com.sns.domain.dto.post.PostDto;
+import com.sns.domain.dto.post.PostSliceRes;
+import com.sns.domain.entity.user.User;
+import com.sns.exception.AppException;
+import com.sns.exception.ErrorCode;
+import com.sns.repository.UserRepo;
+import com.sns.timeline.HomeTimeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 테스트 설정의 timeline.popular-threshold = 3
+@SpringBootTest
+class TimelineServiceTest {
+
+    @Autowired
+    TimelineService timelineService;
+
+    @Autowired
+    FollowService followService;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    HomeTimeline homeTimeline;
+
+    @Autowired
+    UserRepo userRepo;
+
+    String me;
+    String friend;
+
+    @BeforeEach
+    void setUp() {
+        me = newUser();
+        friend = newUser();
+    }
+
+    /*
+        1. 팔로우
+         - 여러 번 팔로우해도 팔로워 수 1, 자기 자신은 실패
+         - 없는 사용자는 실패
+        2. 타임라인
+         - 내 글 + 팔로우한 계정의 글만 최신순
+         - DB에서 처음 만들 때 내 글과 여러 팔로우 계정의 글이 섞여도 최신순
+         - 이미 읽은(메모리에 있는) 타임라인에도 새 글이 fan-out 됨
+         - 인기 계정의 글은 fan-out 없이 읽을 때 병합
+         - 언팔로우하면 그 계정의 글이 빠짐
+         - 커서로 끝까지 넘기면 중복/누락 없음
+     */
+
+    @Test
+    void 팔로우_중복() {
+        followService.follow(me, friend);
+        followService.follow(me, friend);
+
+        assertThat(followerCount(friend)).isEqualTo(1);
+
+        followService.unfollow(me, friend);
+        followService.unfollow(me, friend);
+
+        assertThat(followerCount(friend)).isZero();
+    }
+
+    @Test
+    void 팔로우실패() {
+        assertThatThrownBy(() -> followService.follow(me, me))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_FOLLOW);
+        assertThatThrownBy(() -> followService.follow(me, "nobody-" + UUID.randomUUID()))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.USERNAME_NOT_FOUND);
+    }
+
+    @Test
+    void 타임라인_팔로우한계정만() throws Exception {
+        String stranger = newUser();
+        followService.follow(me, friend);
+
+        Long mine = write(me);
+        Long friends = write(friend);
+        write(stranger);
+
+        assertThat(timelineIds(me)).containsExactly(friends, mine);
+    }
+
+    @Test
+    void 타임라인_처음만들때_병합() throws Exception {
+        String other = newUser();
+        followService.follow(me, friend);
+        followService.follow(me, other);
+
+        List<Long> written = new ArrayList<>();
+        for (String author : List.of(me, friend, other, me, other, friend)) {
+            written.add(write(author));
+        }
+
+        List<Long> expected = new ArrayList<>(written);
+        Collections.reverse(expected);
+        assertThat(timelineIds(me)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void 타임라인_fanOut() throws Exception {
+        followService.follow(me, friend);
+        Long old = write(friend);
+        assertThat(timelineIds(me)).containsExactly(old);
+
+        // 메모리에 올라간 뒤 등록된 글
+        Long recent = write(friend);
+
+        assertThat(timelineIds(me)).containsExactly(recent, old);
+    }
+
+    @Test
+    void 타임라인_인기계정병합() throws Exception {
+        String celebrity = newUser();
+        followService.follow(me, celebrity);
+        followService.follow(newUser(), celebrity);
+        followService.follow(newUser(), celebrity);
+        followService.follow(me, friend);
+
+        Long first = write(celebrity);
+        assertThat(timelineIds(me)).containsExactly(first);
+
+        Long friends = write(friend);
+        Long second = write(celebrity);
+
+        assertThat(timelineIds(me)).containsExactly(second, friends, first);
+    }
+
+    @Test
+    void 타임라인_언팔로우() throws Exception {
+        followService.follow(me, friend);
+        Long friends = write(friend);
+        assertThat(timelineIds(me)).containsExactly(friends);
+
+        followService.unfollow(me, friend);
+
+        assertThat(timelineIds(me)).isEmpty();
+    }
+
+    @Test
+    void 타임라인_커서() throws Exception {
+        followService.follow(me, friend);
+        List<Long> written = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            written.add(write(i % 2 == 0 ? me : friend));
+        }
+
+        List<Long> read = new ArrayList<>();
+        String cursor = null;
+        do {
+            PostSliceRes page = timelineService.getTimeline(me, cursor, 10);
+            page.getContent().forEach(post -> read.add(post.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(read).hasSize(25).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(read).containsExactlyInAnyOrderElementsOf(written);
+    }
+
+    private Long write(String userName) throws InterruptedException {
+        Long postId = postService.write(new PostCreateReq("title", "body"), userName).getId();
+        assertThat(homeTimeline.awaitFanOut(Duration.ofSeconds(5))).isTrue();
+        return postId;
+    }
+
+    private List<Long> timelineIds(String userName) {
+        return timelineService.getTimeline(userName, null, 100).getContent().stream()
+                .map(PostDto::getId)
+                .collect(Collectors.toList());
+    }
+
+    private long followerCount(String userName) {
+        return userRepo.findFollowerCountByUserName(userName).orElseThrow();
+    }
+
+    private String newUser() {
+        String name = "user-" + UUID.randomUUID();
+        userRepo.save(User.builder().userName(name).password("passwordTest").build());
+        return name;
+    }
+}
@@ -0,0 +1,64 @@
+package com.sns.service;
+
+import com.sns.domain.dto.user.UserDto;
+import com.sns.domain.dto.user.UserJoinReq;
+import com.sns.domain.entity.user.User;
+import com.sns.repository.UserRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+    UserRepo userRepo;
+    PasswordHasher passwordHasher;
+    ThreadPoolTaskExecutor taskExecutor;
+    UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepo = mock(UserRepo.class);
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), 1, 4);
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix("task-");
+        taskExecutor.initialize();
+        userService = new UserService(userRepo, passwordHasher, null, null, null, taskExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.destroy();
+        taskExecutor.shutdown();
+    }
+
+    /*
+        1. 회원가입 - 해싱만 password-hash 풀에서, 저장은 taskExecutor에서
+     */
+
+    @Test
+    void 가입_저장은_해싱스레드밖에서() throws Exception {
+        AtomicReference<String> savedOn = new AtomicReference<>();
+        when(userRepo.findByUserName("userName")).thenReturn(Optional.empty());
+        when(userRepo.save(any(User.class))).thenAnswer(invocation -> {
+            savedOn.set(Thread.currentThread().getName());
+            return invocation.getArgument(0);
+        });
+
+        UserDto userDto = userService.join(new UserJoinReq("userName", "password")).get(5, TimeUnit.SECONDS);
+
+        assertThat(userDto.getUserName()).isEqualTo("userName");
+        assertThat(new BCryptPasswordEncoder().matches("password", userDto.getPassword())).isTrue();
+        assertThat(savedOn.get()).startsWith("task-");
+    }
+}
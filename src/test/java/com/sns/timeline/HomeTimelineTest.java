@@ -0,0 +1,84 @@
+package com.sns.timeline;
+
+import com.sns.repository.FollowRepo;
+import com.sns.repository.PostRepo;
+import com.sns.repository.UserRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HomeTimelineTest {
+
+    PostRepo postRepo;
+    FollowRepo followRepo;
+    UserRepo userRepo;
+    HomeTimeline homeTimeline;
+    CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        postRepo = mock(PostRepo.class);
+        followRepo = mock(FollowRepo.class);
+        userRepo = mock(UserRepo.class);
+        when(postRepo.findIdsByUserName(anyString(), any())).thenReturn(List.of());
+        when(postRepo.findFolloweePostIds(anyString(), any())).thenReturn(List.of());
+        when(followRepo.findPopularFolloweeNames(anyString(), anyLong())).thenReturn(List.of());
+        when(userRepo.findFollowerCountByUserName(anyString())).thenReturn(Optional.of(1L));
+        // blocker의 fan-out은 release 될 때까지 스레드를 붙잡음
+        when(followRepo.streamFollowerNames("blocker")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Stream.empty();
+        });
+        when(followRepo.streamFollowerNames("author")).thenAnswer(invocation -> Stream.of("follower"));
+
+        // fan-out 스레드 1개, 큐 1칸
+        homeTimeline = new HomeTimeline(postRepo, followRepo, userRepo, mock(PlatformTransactionManager.class),
+                10, 1_000, 100, Duration.ofMinutes(1), Duration.ofMinutes(1), 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        homeTimeline.destroy();
+    }
+
+    /*
+        1. fan-out 큐가 가득 차면 작성자의 팔로워 buffer만 버림 - 다른 사용자의 buffer는 그대로
+     */
+
+    @Test
+    void fanOut거절_팔로워만_다시만듦() throws Exception {
+        homeTimeline.read("follower", 0, 10);
+        homeTimeline.read("bystander", 0, 10);
+
+        homeTimeline.fanOutAfterCommit("blocker", List.of(1L)); // 스레드 점유 (첫 작업은 큐를 거치지 않음)
+        homeTimeline.fanOutAfterCommit("blocker", List.of(2L)); // 큐 1칸 점유
+        homeTimeline.fanOutAfterCommit("author", List.of(3L));  // 거절
+
+        homeTimeline.read("follower", 0, 10);
+        homeTimeline.read("bystander", 0, 10);
+
+        verify(postRepo, times(2)).findIdsByUserName(eq("follower"), any());
+        verify(postRepo, times(1)).findIdsByUserName(eq("bystander"), any());
+        release.countDown();
+        assertThat(homeTimeline.awaitFanOut(Duration.ofSeconds(5))).isTrue();
+    }
+}
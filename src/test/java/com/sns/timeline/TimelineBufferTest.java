@@ -0,0 +1,69 @@
+package com.sns.timeline;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimelineBufferTest {
+
+    /*
+        1. buffer
+         - 최신순으로 읽기, before / limit
+         - 가득 차면 가장 오래된 id부터 버림
+         - 순서가 뒤바뀐 id / 같은 id
+        2. 병합
+         - 여러 source를 최신순으로, 같은 id는 한 번만
+     */
+
+    @Test
+    void 읽기_최신순() {
+        TimelineBuffer buffer = TimelineBuffer.of(100, new long[]{1, 2, 3, 4, 5});
+
+        assertThat(buffer.read(0, 3)).containsExactly(5, 4, 3);
+        assertThat(buffer.read(3, 10)).containsExactly(2, 1);
+        assertThat(buffer.read(1, 10)).isEmpty();
+    }
+
+    @Test
+    void 가득차면_오래된것부터() {
+        TimelineBuffer buffer = new TimelineBuffer(40);
+        for (long id = 1; id <= 100; id++) {
+            buffer.add(id);
+        }
+
+        assertThat(buffer.size()).isEqualTo(40);
+        assertThat(buffer.length()).isEqualTo(40);
+        assertThat(buffer.read(0, 1)).containsExactly(100);
+        assertThat(buffer.read(62, 100)).hasSize(1).containsExactly(61);
+
+        // 가장 오래된 것보다 오래된 id는 들어가지 않음
+        buffer.add(10);
+        assertThat(buffer.toArray()).startsWith(61);
+    }
+
+    @Test
+    void 순서뒤바뀜_중복() {
+        TimelineBuffer buffer = new TimelineBuffer(4);
+        buffer.add(1);
+        buffer.add(3);
+        buffer.add(2);
+        buffer.add(3);
+        buffer.add(5);
+        buffer.add(4);
+
+        assertThat(buffer.toArray()).containsExactly(2, 3, 4, 5);
+    }
+
+    @Test
+    void 병합() {
+        long[][] sources = {
+                {9, 7, 5, 3},
+                {8, 7, 2},
+                {},
+                {10, 1}
+        };
+
+        assertThat(HomeTimeline.merge(sources, 5)).containsExactly(10, 9, 8, 7, 5);
+        assertThat(HomeTimeline.merge(sources, 100)).containsExactly(10, 9, 8, 7, 5, 3, 2, 1);
+    }
+}
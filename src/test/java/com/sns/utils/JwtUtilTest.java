@@ -0,0 +1,89 @@
+package com.sns.utils;
+
+import com.sns.security.JwtKeyRing;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "hello";
+
+    // JwtFilter와 같은 경로 - JwtUtil로 만든 kid 없는 토큰을 legacy secret으로 검증
+    private final JwtKeyRing keyRing = new JwtKeyRing(SECRET, Map.of());
+
+    /*
+        1. verify (JwtKeyRing.verify)
+         - 성공 (같은 토큰은 같은 claim 객체 재사용, 토큰마다 다른 jti)
+         - 실패
+          -- (다른 secret)
+          -- (만료)
+          -- (서명은 맞지만 userName / exp claim 없음)
+     */
+
+    @Test
+    void verify성공_캐시재사용() {
+        String token = JwtUtil.createToken("userNameTest", SECRET, 1000L * 60);
+
+        VerifiedClaims first = keyRing.verify(token);
+        VerifiedClaims second = keyRing.verify(token);
+
+        assertThat(first.getUserName()).isEqualTo("userNameTest");
+        assertThat(first.getExpiration()).isAfter(Instant.now());
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void verify성공_토큰마다다른jti() {
+        VerifiedClaims first = keyRing.verify(JwtUtil.createToken("userNameTest", SECRET, 1000L * 60));
+        VerifiedClaims second = keyRing.verify(JwtUtil.createToken("userNameTest", SECRET, 1000L * 60));
+
+        assertThat(first.getTokenId()).isNotBlank();
+        assertThat(second.getTokenId()).isNotEqualTo(first.getTokenId());
+    }
+
+    @Test
+    void verify실패_다른secret() {
+        String token = JwtUtil.createToken("userNameTest", SECRET, 1000L * 60);
+        keyRing.verify(token);
+
+        // 캐시는 key ring마다 따로라서 다른 secret으로는 통과하지 못함
+        assertThatThrownBy(() -> new JwtKeyRing("other", Map.of()).verify(token))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void verify실패_만료() {
+        String token = JwtUtil.createToken("userNameTest", SECRET, -1000L);
+
+        assertThatThrownBy(() -> keyRing.verify(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void verify실패_claim없음() {
+        String noUserName = Jwts.builder()
+                .setExpiration(new Date(System.currentTimeMillis() + 1000L * 60))
+                .signWith(SignatureAlgorithm.HS256, SECRET)
+                .compact();
+        String noExpiration = Jwts.builder()
+                .claim("userName", "userNameTest")
+                .signWith(SignatureAlgorithm.HS256, SECRET)
+                .compact();
+
+        assertThatThrownBy(() -> keyRing.verify(noUserName))
+                .isInstanceOf(MalformedJwtException.class);
+        assertThatThrownBy(() -> keyRing.verify(noExpiration))
+                .isInstanceOf(MalformedJwtException.class);
+    }
+}